@@ -7,8 +7,8 @@ SET timezone = 'UTC';
 -- Create extension for UUID generation if needed
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
--- Note: Tables will be created automatically by Hibernate DDL
--- This script can be used for initial data setup
+-- Note: Tables are created by Hibernate DDL in dev and by the Flyway migrations
+-- in src/main/resources/db/migration in prod. This script can be used for initial data setup
 
 -- Insert initial admin user (password: admin123)
 -- This will be executed after tables are created by the application
@@ -0,0 +1,118 @@
+package com.talentica.taskmanagement.benchmark;
+
+import com.talentica.taskmanagement.dto.response.TaskResponse;
+import com.talentica.taskmanagement.dto.response.UserResponse;
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskStatus;
+import com.talentica.taskmanagement.enums.TaskType;
+import com.talentica.taskmanagement.enums.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Deterministic in-memory data shared by the benchmarks; nothing here touches Spring or a database
+public final class BenchmarkFixtures {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user(long id, UserRole role) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setFirstName("First" + id);
+        user.setLastName("Last" + id);
+        user.setRole(role);
+        user.setIsActive(true);
+        user.setCreatedAt(NOW);
+        user.setUpdatedAt(NOW);
+        return user;
+    }
+
+    // A story with `fanout` children per node, `depth` levels below the root
+    public static Task taskTree(int depth, int fanout) {
+        User reporter = user(1L, UserRole.MANAGER);
+        User assignee = user(2L, UserRole.DEVELOPER);
+        long[] nextId = {1L};
+        return node(null, depth, fanout, reporter, assignee, nextId);
+    }
+
+    public static List<TaskResponse> taskResponses(int count, int subtasksEach) {
+        UserResponse reporter = userResponse(1L, UserRole.MANAGER);
+        UserResponse assignee = userResponse(2L, UserRole.DEVELOPER);
+
+        List<TaskResponse> responses = new ArrayList<>(count);
+        long id = 1L;
+        for (int i = 0; i < count; i++) {
+            TaskResponse story = taskResponse(id++, TaskType.STORY, reporter, assignee);
+            List<TaskResponse> subtasks = new ArrayList<>(subtasksEach);
+            for (int j = 0; j < subtasksEach; j++) {
+                TaskResponse subtask = taskResponse(id++, TaskType.SUBTASK, reporter, assignee);
+                TaskResponse parent = new TaskResponse();
+                parent.setId(story.getId());
+                parent.setTitle(story.getTitle());
+                parent.setTaskType(story.getTaskType());
+                subtask.setParentTask(parent);
+                subtasks.add(subtask);
+            }
+            story.setSubtasks(subtasks);
+            responses.add(story);
+        }
+        return responses;
+    }
+
+    private static Task node(Task parent, int depth, int fanout, User reporter, User assignee, long[] nextId) {
+        Task task = new Task();
+        task.setId(nextId[0]++);
+        task.setTitle("Task " + task.getId());
+        task.setDescription("Description for task " + task.getId() + " with enough text to resemble a real ticket body");
+        task.setTaskType(parent == null ? TaskType.STORY : TaskType.SUBTASK);
+        task.setTaskStatus(TaskStatus.IN_PROGRESS);
+        task.setStoryPoints(3);
+        task.setEstimatedHours(8.0);
+        task.setActualHours(5.5);
+        task.setReporter(reporter);
+        task.setAssignee(assignee);
+        task.setParentTask(parent);
+        task.setCreatedAt(NOW);
+        task.setUpdatedAt(NOW);
+        task.setDueDate(NOW.plusDays(7));
+
+        List<Task> subtasks = new ArrayList<>();
+        if (depth > 0) {
+            for (int i = 0; i < fanout; i++) {
+                subtasks.add(node(task, depth - 1, fanout, reporter, assignee, nextId));
+            }
+        }
+        task.setSubtasks(subtasks);
+        return task;
+    }
+
+    private static UserResponse userResponse(long id, UserRole role) {
+        return new UserResponse(id, "user" + id, "user" + id + "@example.com", "First" + id, "Last" + id,
+                role, true, NOW, NOW);
+    }
+
+    private static TaskResponse taskResponse(long id, TaskType type, UserResponse reporter, UserResponse assignee) {
+        TaskResponse response = new TaskResponse();
+        response.setId(id);
+        response.setTitle("Task " + id);
+        response.setDescription("Description for task " + id + " with enough text to resemble a real ticket body");
+        response.setTaskType(type);
+        response.setTaskStatus(TaskStatus.IN_PROGRESS);
+        response.setStoryPoints(3);
+        response.setEstimatedHours(8.0);
+        response.setActualHours(5.5);
+        response.setReporter(reporter);
+        response.setAssignee(assignee);
+        response.setCreatedAt(NOW);
+        response.setUpdatedAt(NOW);
+        response.setDueDate(NOW.plusDays(7));
+        return response;
+    }
+}
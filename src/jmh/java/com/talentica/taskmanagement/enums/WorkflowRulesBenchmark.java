@@ -0,0 +1,46 @@
+package com.talentica.taskmanagement.enums;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Every status pair and every role/type pair per invocation, so results cover all branches
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkflowRulesBenchmark {
+
+    private final TaskStatus[] statuses = TaskStatus.values();
+    private final UserRole[] roles = UserRole.values();
+    private final TaskType[] taskTypes = TaskType.values();
+
+    @Benchmark
+    public void canTransitionTo(Blackhole blackhole) {
+        for (TaskStatus from : statuses) {
+            for (TaskStatus to : statuses) {
+                blackhole.consume(from.canTransitionTo(to));
+            }
+        }
+    }
+
+    @Benchmark
+    public void canCreate(Blackhole blackhole) {
+        for (UserRole role : roles) {
+            for (TaskType taskType : taskTypes) {
+                blackhole.consume(role.canCreate(taskType));
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.talentica.taskmanagement.service;
+
+import com.talentica.taskmanagement.benchmark.BenchmarkFixtures;
+import com.talentica.taskmanagement.dto.response.TaskResponse;
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.repository.TaskRepository;
+import com.talentica.taskmanagement.service.impl.TaskServiceImpl;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// TaskService.getTaskById mapping an in-memory subtask tree with `fanout` children per node, `depth` levels deep.
+// The repository is a stub returning the tree, so the time is the recursive mapping plus one stubbed lookup.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    @Param({"1", "3"})
+    private int depth;
+
+    @Param({"5", "20"})
+    private int fanout;
+
+    private TaskService taskService;
+    private Long rootId;
+
+    @Setup
+    public void setUp() {
+        Task root = BenchmarkFixtures.taskTree(depth, fanout);
+        rootId = root.getId();
+        TaskRepository taskRepository = Mockito.mock(TaskRepository.class);
+        Mockito.when(taskRepository.findById(rootId)).thenReturn(Optional.of(root));
+
+        taskService = new TaskServiceImpl();
+        ReflectionTestUtils.setField(taskService, "taskRepository", taskRepository);
+    }
+
+    @Benchmark
+    public TaskResponse mapTaskTree() {
+        return taskService.getTaskById(rootId);
+    }
+}
@@ -0,0 +1,98 @@
+package com.talentica.taskmanagement.analytics;
+
+import com.talentica.taskmanagement.entity.TaskFlowBucket;
+import com.talentica.taskmanagement.entity.TaskStatusChange;
+import com.talentica.taskmanagement.enums.FlowMetric;
+import com.talentica.taskmanagement.enums.TaskStatus;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Folds a batch of status changes into daily bucket increments. Each change is measured against its task's
+// full history: the row before it gives the dwell in the status it left, the creation row and the first move
+// to IN_PROGRESS give lead and cycle time when it reaches DONE.
+public class FlowAggregate {
+
+    // Stored in task_flow_daily in place of a missing assignee or epic, so the unique key has no nulls
+    public static final long NONE = 0L;
+
+    private static final Comparator<TaskFlowBucket> KEY_ORDER = Comparator
+            .comparing(TaskFlowBucket::getBucketDate)
+            .thenComparingLong(TaskFlowBucket::getAssigneeId)
+            .thenComparingLong(TaskFlowBucket::getEpicId)
+            .thenComparing(TaskFlowBucket::getMetric)
+            .thenComparingInt(TaskFlowBucket::getBin);
+
+    // Keyed in unique-key order so concurrent rollups take bucket row locks in the same sequence
+    private final Map<TaskFlowBucket, TaskFlowBucket> buckets = new TreeMap<>(KEY_ORDER);
+
+    // history: the task's changes ordered by time, including this one
+    public void add(TaskStatusChange transition, List<TaskStatusChange> history, long epicId) {
+        LocalDate date = Instant.ofEpochMilli(transition.getChangedAt()).atZone(ZoneId.systemDefault()).toLocalDate();
+        long assigneeId = transition.getAssigneeId() != null ? transition.getAssigneeId() : NONE;
+        long points = transition.getStoryPoints() != null ? transition.getStoryPoints() : 0;
+
+        if (transition.getToStatus() == null) {
+            // Deleted: points still open leave the burndown, if they were ever counted in
+            if (transition.getFromStatus() != TaskStatus.DONE && !history.isEmpty()
+                    && history.get(0).getFromStatus() == null) {
+                add(date, assigneeId, epicId, FlowMetric.REMOVED, 0, points);
+            }
+            return;
+        }
+
+        int position = indexOf(history, transition);
+        if (transition.getFromStatus() == null) {
+            add(date, assigneeId, epicId, FlowMetric.CREATED, 0, points);
+        } else if (position > 0) {
+            long dwell = seconds(history.get(position - 1), transition);
+            add(date, assigneeId, epicId, FlowMetric.DWELL, transition.getFromStatus().ordinal(), dwell);
+        }
+
+        if (transition.getToStatus() == TaskStatus.DONE) {
+            add(date, assigneeId, epicId, FlowMetric.COMPLETED, 0, points);
+            // Tasks created before history was recorded have no creation row and no lead time
+            if (!history.isEmpty() && history.get(0).getFromStatus() == null) {
+                long lead = seconds(history.get(0), transition);
+                add(date, assigneeId, epicId, FlowMetric.LEAD_TIME, FlowHistogram.bin(lead), lead);
+            }
+            for (int i = 0; i < position; i++) {
+                if (history.get(i).getToStatus() == TaskStatus.IN_PROGRESS) {
+                    long cycle = seconds(history.get(i), transition);
+                    add(date, assigneeId, epicId, FlowMetric.CYCLE_TIME, FlowHistogram.bin(cycle), cycle);
+                    break;
+                }
+            }
+        }
+    }
+
+    public Collection<TaskFlowBucket> getBuckets() {
+        return buckets.values();
+    }
+
+    private void add(LocalDate date, long assigneeId, long epicId, FlowMetric metric, int bin, long total) {
+        TaskFlowBucket key = new TaskFlowBucket(date, assigneeId, epicId, metric, bin, 0, 0);
+        TaskFlowBucket bucket = buckets.computeIfAbsent(key, k -> k);
+        bucket.setTotal(bucket.getTotal() + total);
+        bucket.setSamples(bucket.getSamples() + 1);
+    }
+
+    private static int indexOf(List<TaskStatusChange> history, TaskStatusChange transition) {
+        for (int i = 0; i < history.size(); i++) {
+            if (history.get(i).getId().equals(transition.getId())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static long seconds(TaskStatusChange from, TaskStatusChange to) {
+        return Math.max((to.getChangedAt() - from.getChangedAt()) / 1000, 0);
+    }
+}
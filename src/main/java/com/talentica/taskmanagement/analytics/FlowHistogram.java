@@ -0,0 +1,41 @@
+package com.talentica.taskmanagement.analytics;
+
+// Log-scale duration bins for lead and cycle time: bin 0 is under an hour, bin n covers [2^(n-1), 2^n) hours.
+// Bins add up across days, assignees and epics, so percentiles come from summed bucket counts; the estimate
+// is the upper edge of the bin holding the requested rank, i.e. within a factor of two above the true value.
+public final class FlowHistogram {
+
+    public static final int BINS = 18;
+
+    private FlowHistogram() {}
+
+    public static int bin(long seconds) {
+        long hours = Math.max(seconds, 0) / 3600;
+        int bin = 64 - Long.numberOfLeadingZeros(hours);
+        return Math.min(bin, BINS - 1);
+    }
+
+    public static double upperBoundHours(int bin) {
+        return 1L << bin;
+    }
+
+    // counts[bin] = samples in that bin; NaN when there are none
+    public static double percentileHours(long[] counts, double percentile) {
+        long samples = 0;
+        for (long count : counts) {
+            samples += count;
+        }
+        if (samples == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) Math.ceil(percentile * samples);
+        long seen = 0;
+        for (int bin = 0; bin < counts.length; bin++) {
+            seen += counts[bin];
+            if (seen >= rank) {
+                return upperBoundHours(bin);
+            }
+        }
+        return upperBoundHours(counts.length - 1);
+    }
+}
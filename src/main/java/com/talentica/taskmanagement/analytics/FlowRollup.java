@@ -0,0 +1,121 @@
+package com.talentica.taskmanagement.analytics;
+
+import com.talentica.taskmanagement.entity.TaskFlowBucket;
+import com.talentica.taskmanagement.entity.TaskFlowRollupCursor;
+import com.talentica.taskmanagement.entity.TaskStatusChange;
+import com.talentica.taskmanagement.repository.TaskFlowBucketRepository;
+import com.talentica.taskmanagement.repository.TaskFlowRollupCursorRepository;
+import com.talentica.taskmanagement.repository.TaskLineage;
+import com.talentica.taskmanagement.repository.TaskRepository;
+import com.talentica.taskmanagement.repository.TaskStatusChangeRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Folds task_status_history, the one status log, into task_flow_daily on a schedule. The rollup's position is a
+// (changed_at, id) cursor of its own. Each batch locks the cursor, reads the rows after it, the history and epic
+// of the tasks involved, adds the increments to the buckets and advances the cursor, all in one transaction, so a
+// failure leaves the batch for the next run. changed_at is stamped before commit and pooled ids do not commit in
+// order, so rows younger than settle-ms are left for a later run rather than skipped once the cursor passes them.
+@Component
+@ConditionalOnProperty(name = "analytics.rollup.enabled", havingValue = "true", matchIfMissing = true)
+public class FlowRollup {
+
+    @Autowired
+    private TaskStatusChangeRepository statusChangeRepository;
+
+    @Autowired
+    private TaskFlowRollupCursorRepository cursorRepository;
+
+    @Autowired
+    private TaskFlowBucketRepository bucketRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${analytics.rollup.batch-size:500}")
+    private int batchSize;
+
+    @Value("${analytics.rollup.settle-ms:10000}")
+    private long settleMillis;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Keeps going while full batches come back, so a backlog clears without waiting for further ticks
+    @Scheduled(fixedDelayString = "${analytics.rollup.interval-ms:60000}", initialDelayString = "${analytics.rollup.interval-ms:60000}")
+    public void rollup() {
+        int rolledUp;
+        do {
+            rolledUp = rollupBatch();
+        } while (rolledUp == batchSize);
+    }
+
+    public int rollupBatch() {
+        Integer rolledUp = transactionTemplate.execute(status -> {
+            // Schemas created by Hibernate start without a cursor and fold the whole history
+            TaskFlowRollupCursor cursor = cursorRepository.lock(TaskFlowRollupCursor.ID)
+                    .orElseGet(() -> cursorRepository.save(new TaskFlowRollupCursor(0L, 0L)));
+            long until = System.currentTimeMillis() - settleMillis;
+            List<TaskStatusChange> batch = statusChangeRepository.findPage(cursor.getChangedAt(), until,
+                    cursor.getChangedAt(), cursor.getHistoryId(), PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            Set<Long> taskIds = batch.stream().map(TaskStatusChange::getTaskId).collect(Collectors.toSet());
+            Map<Long, List<TaskStatusChange>> histories = statusChangeRepository.findHistory(taskIds).stream()
+                    .collect(Collectors.groupingBy(TaskStatusChange::getTaskId));
+            Map<Long, Long> epicIds = new HashMap<>();
+            for (TaskLineage lineage : taskRepository.findLineage(taskIds)) {
+                if (lineage.getEpicId() != null) {
+                    epicIds.put(lineage.getTaskId(), lineage.getEpicId());
+                }
+            }
+            // Deleted tasks have no lineage left; their deletion row carries the epic they were under
+            for (List<TaskStatusChange> history : histories.values()) {
+                TaskStatusChange last = history.get(history.size() - 1);
+                if (last.getToStatus() == null && last.getEpicId() != null) {
+                    epicIds.putIfAbsent(last.getTaskId(), last.getEpicId());
+                }
+            }
+
+            FlowAggregate aggregate = new FlowAggregate();
+            for (TaskStatusChange change : batch) {
+                aggregate.add(change, histories.getOrDefault(change.getTaskId(), Collections.emptyList()),
+                        epicIds.getOrDefault(change.getTaskId(), FlowAggregate.NONE));
+            }
+            for (TaskFlowBucket bucket : aggregate.getBuckets()) {
+                int updated = bucketRepository.increment(bucket.getBucketDate(), bucket.getAssigneeId(),
+                        bucket.getEpicId(), bucket.getMetric(), bucket.getBin(), bucket.getTotal(), bucket.getSamples());
+                if (updated == 0) {
+                    bucketRepository.save(bucket);
+                }
+            }
+            TaskStatusChange last = batch.get(batch.size() - 1);
+            cursor.setChangedAt(last.getChangedAt());
+            cursor.setHistoryId(last.getId());
+            return batch.size();
+        });
+        return rolledUp != null ? rolledUp : 0;
+    }
+}
@@ -0,0 +1,35 @@
+package com.talentica.taskmanagement.config;
+
+import com.talentica.taskmanagement.metrics.EntityLoadCountingIntegrator;
+import com.talentica.taskmanagement.metrics.QueryCountingStatementInspector;
+import com.talentica.taskmanagement.metrics.RequestQueryStatsCallableInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Collections;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    // Hooks the per-request statement and entity-load counting into Hibernate. An inspector set in
+    // spring.jpa.properties is kept; it has to extend QueryCountingStatementInspector to keep the counts.
+    @Bean
+    public HibernatePropertiesCustomizer queryMetricsCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+            properties.put("hibernate.integrator_provider",
+                    (IntegratorProvider) () -> Collections.singletonList(new EntityLoadCountingIntegrator()));
+        };
+    }
+
+    // Counts the statements a StreamingResponseBody issues on the async thread against its request
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new RequestQueryStatsCallableInterceptor());
+    }
+}
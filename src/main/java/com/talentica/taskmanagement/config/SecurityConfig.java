@@ -49,6 +49,11 @@ public class SecurityConfig {
                     // Public endpoints
                     .antMatchers("/api/auth/**").permitAll()
                     .antMatchers("/api/health/**").permitAll()
+
+                    // Actuator: health and the Prometheus scrape are open (prod binds them to a loopback
+                    // management port), the rest is for admins
+                    .antMatchers("/actuator/health/**", "/actuator/info", "/actuator/prometheus").permitAll()
+                    .antMatchers("/actuator/**").hasRole("ADMIN")
                     
                     // Swagger endpoints
                     .antMatchers("/v3/api-docs/**").permitAll()
@@ -0,0 +1,61 @@
+package com.talentica.taskmanagement.controller;
+
+import com.talentica.taskmanagement.dto.response.BurndownPoint;
+import com.talentica.taskmanagement.dto.response.FlowMetricsResponse;
+import com.talentica.taskmanagement.dto.response.ThroughputPoint;
+import com.talentica.taskmanagement.service.AnalyticsService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@Api(tags = "Analytics", description = "Sprint and flow analytics over task status history")
+public class AnalyticsController {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @GetMapping("/burndown")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @ApiOperation(value = "Story point burndown", notes = "Points added, completed and remaining per day for an epic, an assignee or everything (default last 30 days)")
+    public ResponseEntity<List<BurndownPoint>> getBurndown(
+            @RequestParam(required = false) Long epicId,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsService.getBurndown(epicId, assigneeId, from, to));
+    }
+
+    @GetMapping("/flow")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @ApiOperation(value = "Flow metrics", notes = "Average dwell time per status and lead/cycle time p50/p85/p95 of tasks completed in the range (default last 30 days)")
+    public ResponseEntity<FlowMetricsResponse> getFlowMetrics(
+            @RequestParam(required = false) Long epicId,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsService.getFlowMetrics(epicId, assigneeId, from, to));
+    }
+
+    @GetMapping("/throughput")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @ApiOperation(value = "Weekly throughput", notes = "Tasks and points completed per week, weeks starting Monday (default last 12 weeks)")
+    public ResponseEntity<List<ThroughputPoint>> getThroughput(
+            @RequestParam(required = false) Long epicId,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsService.getThroughput(epicId, assigneeId, from, to));
+    }
+}
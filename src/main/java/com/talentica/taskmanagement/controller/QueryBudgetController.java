@@ -0,0 +1,45 @@
+package com.talentica.taskmanagement.controller;
+
+import com.talentica.taskmanagement.dto.response.QueryBudgetReport;
+import com.talentica.taskmanagement.metrics.QueryBudgetMonitor;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/query-budget")
+@Validated
+@Api(tags = "Query Budget", description = "Per-endpoint SQL statement budgets")
+public class QueryBudgetController {
+
+    @Autowired
+    private QueryBudgetMonitor queryBudgetMonitor;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @ApiOperation(value = "Get query budget offenders", notes = "Endpoints by how often they exceeded their SQL statement budget, then by their worst request, since startup or the last reset")
+    public ResponseEntity<List<QueryBudgetReport>> getTopOffenders(
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+        return ResponseEntity.ok(queryBudgetMonitor.getTopOffenders(limit));
+    }
+
+    @DeleteMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @ApiOperation(value = "Reset query budget statistics", notes = "Clear the per-endpoint totals, e.g. after a deploy")
+    public ResponseEntity<Void> reset() {
+        queryBudgetMonitor.reset();
+        return ResponseEntity.ok().build();
+    }
+}
@@ -1,27 +1,53 @@
 package com.talentica.taskmanagement.controller;
 
+import com.talentica.taskmanagement.dto.request.BulkTaskAssignRequest;
+import com.talentica.taskmanagement.dto.request.BulkTaskCreateRequest;
+import com.talentica.taskmanagement.dto.request.BulkTaskTransitionRequest;
 import com.talentica.taskmanagement.dto.request.TaskCreateRequest;
 import com.talentica.taskmanagement.dto.request.TaskStatusTransitionRequest;
 import com.talentica.taskmanagement.dto.request.TaskUpdateRequest;
+import com.talentica.taskmanagement.dto.response.BulkOperationResponse;
+import com.talentica.taskmanagement.dto.response.CursorPageResponse;
+import com.talentica.taskmanagement.dto.response.PageResponse;
+import com.talentica.taskmanagement.dto.response.TaskChangesResponse;
 import com.talentica.taskmanagement.dto.response.TaskResponse;
+import com.talentica.taskmanagement.dto.response.TaskStatusChangeResponse;
+import com.talentica.taskmanagement.dto.response.TaskSummaryResponse;
 import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskExportFormat;
+import com.talentica.taskmanagement.enums.TaskPageOrder;
 import com.talentica.taskmanagement.enums.TaskStatus;
 import com.talentica.taskmanagement.enums.TaskType;
+import com.talentica.taskmanagement.metrics.QueryBudget;
+import com.talentica.taskmanagement.repository.TaskFilter;
+import com.talentica.taskmanagement.repository.VersionStamp;
 import com.talentica.taskmanagement.service.TaskService;
-import com.talentica.taskmanagement.service.UserService;
+import com.talentica.taskmanagement.stream.TaskEventStream;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
+@Validated
 @RequestMapping("/api/tasks")
 @Api(tags = "Task Management", description = "Task management endpoints")
 public class TaskController {
@@ -30,112 +56,298 @@ public class TaskController {
     private TaskService taskService;
 
     @Autowired
-    private UserService userService;
+    private TaskEventStream taskEventStream;
 
     @PostMapping
     @ApiOperation(value = "Create task", notes = "Create a new task")
     public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskCreateRequest request,
-                                                   Authentication authentication) {
-        User reporter = userService.findUserEntityByUsername(authentication.getName());
+                                                   @AuthenticationPrincipal User reporter) {
         TaskResponse taskResponse = taskService.createTask(request, reporter);
         return new ResponseEntity<>(taskResponse, HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    @ApiOperation(value = "Bulk create tasks", notes = "Create up to 1000 tasks in one request. Items are checked individually and the response reports the result of each")
+    public ResponseEntity<BulkOperationResponse> bulkCreateTasks(@Valid @RequestBody BulkTaskCreateRequest request,
+                                                                 @AuthenticationPrincipal User reporter) {
+        BulkOperationResponse response = taskService.bulkCreateTasks(request.getTasks(), reporter);
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/bulk/transition")
+    @ApiOperation(value = "Bulk transition tasks", notes = "Move up to 1000 tasks to one target status. Each task is checked against the workflow rules and reported individually")
+    public ResponseEntity<BulkOperationResponse> bulkTransitionTasks(@Valid @RequestBody BulkTaskTransitionRequest request,
+                                                                     @AuthenticationPrincipal User currentUser) {
+        BulkOperationResponse response = taskService.bulkTransitionTasks(request.getTaskIds(), request.getTargetStatus(), currentUser);
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/bulk/assign")
+    @ApiOperation(value = "Bulk assign tasks", notes = "Assign up to 1000 tasks to one user. Each task is reported individually")
+    public ResponseEntity<BulkOperationResponse> bulkAssignTasks(@Valid @RequestBody BulkTaskAssignRequest request,
+                                                                 @AuthenticationPrincipal User currentUser) {
+        BulkOperationResponse response = taskService.bulkAssignTasks(request.getTaskIds(), request.getAssigneeId(), currentUser);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
-    @ApiOperation(value = "Get all tasks", notes = "Get list of all tasks")
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
+    @QueryBudget(statements = 6)
+    @ApiOperation(value = "Get all tasks", notes = "Get list of all tasks. Pass limit or cursor to page with a keyset cursor")
+    public ResponseEntity<?> getAllTasks(@RequestParam(required = false) String cursor,
+                                         @RequestParam(required = false) @Min(1) @Max(500) Integer limit,
+                                         @RequestParam(defaultValue = "ID") TaskPageOrder orderBy) {
+        if (isPaged(cursor, limit)) {
+            return ResponseEntity.ok(taskService.getTaskPage(TaskFilter.all(), cursor, limit, orderBy));
+        }
         List<TaskResponse> tasks = taskService.getAllTasks();
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/summary")
+    @QueryBudget(statements = 3)
+    @ApiOperation(value = "Get task summaries", notes = "Get a flat, read-only list of tasks optionally filtered by status and type")
+    public ResponseEntity<List<TaskSummaryResponse>> getTaskSummaries(@RequestParam(required = false) TaskStatus status,
+                                                                      @RequestParam(required = false) TaskType type) {
+        List<TaskSummaryResponse> tasks = taskService.getTaskSummaries(status, type);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/my/summary")
+    @QueryBudget(statements = 3)
+    @ApiOperation(value = "Get my task summaries", notes = "Get a flat, read-only list of tasks for current user")
+    public ResponseEntity<List<TaskSummaryResponse>> getMyTaskSummaries(@AuthenticationPrincipal User user) {
+        List<TaskSummaryResponse> tasks = taskService.getTaskSummariesForUser(user);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/export")
+    @ApiOperation(value = "Export tasks", notes = "Stream task summaries as NDJSON (default) or CSV, optionally filtered by status, type, assignee or reporter. Gzip-compressed when the client sends Accept-Encoding: gzip")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "NDJSON") TaskExportFormat format,
+                                                             @RequestParam(required = false) TaskStatus status,
+                                                             @RequestParam(required = false) TaskType taskType,
+                                                             @RequestParam(required = false) Long assigneeId,
+                                                             @RequestParam(required = false) Long reporterId,
+                                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        TaskFilter filter = TaskFilter.all();
+        filter.setStatus(status);
+        filter.setTaskType(taskType);
+        filter.setAssigneeId(assigneeId);
+        filter.setReporterId(reporterId);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        // Written on an async thread straight from the database cursor, so the request never holds the whole export
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                // syncFlush so each flush of the writer pushes the rows compressed so far to the client
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, 8192, true);
+                taskService.exportTasks(filter, format, gzipOut);
+                gzipOut.finish();
+            } else {
+                taskService.exportTasks(filter, format, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + format.getFileExtension() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     @GetMapping("/{id}")
-    @ApiOperation(value = "Get task by ID", notes = "Get task details by ID")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
+    @QueryBudget(statements = 10)
+    @ApiOperation(value = "Get task by ID", notes = "Get task details by ID. Honours If-None-Match / If-Modified-Since with 304")
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, WebRequest webRequest) {
+        // The stamp is one aggregate query; a 304 never loads or serializes the task tree
+        VersionStamp stamp = taskService.getTaskStamp(id);
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
         TaskResponse task = taskService.getTaskById(id);
         return ResponseEntity.ok(task);
     }
 
+    @GetMapping("/{id}/tree")
+    @QueryBudget(statements = 4)
+    @ApiOperation(value = "Get task tree", notes = "Get a task with its subtasks nested down to depth levels (0 = the task alone), loaded with a single recursive query. Nodes at the depth limit report subtaskCount only")
+    public ResponseEntity<TaskResponse> getTaskTree(@PathVariable Long id,
+                                                    @RequestParam(defaultValue = "2") @Min(0) @Max(10) int depth) {
+        TaskResponse tree = taskService.getTaskTree(id, depth);
+        return ResponseEntity.ok(tree);
+    }
+
+    @GetMapping("/{id}/history")
+    @ApiOperation(value = "Get task status history", notes = "Status changes of a task, oldest first, with the acting user, starting with its creation (no fromStatus); optionally limited to [from, to). Kept after the task is deleted")
+    public ResponseEntity<List<TaskStatusChangeResponse>> getTaskHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        List<TaskStatusChangeResponse> history = taskService.getTaskHistory(id, from, to);
+        return ResponseEntity.ok(history);
+    }
+
+    @GetMapping("/history")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @ApiOperation(value = "Get status history", notes = "Status changes of all tasks, creations included, in [from, to) (to defaults to now), oldest first, paged with a keyset cursor (limit default 50, max 500)")
+    public ResponseEntity<CursorPageResponse<TaskStatusChangeResponse>> getStatusHistory(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) @Min(1) @Max(500) Integer limit) {
+        CursorPageResponse<TaskStatusChangeResponse> history = taskService.getStatusHistory(from, to, cursor, limit);
+        return ResponseEntity.ok(history);
+    }
+
+    @GetMapping("/changes")
+    @ApiOperation(value = "Get task changes", notes = "Tasks created, updated or deleted after the since watermark, oldest first. Omit since for a full sync; pass the returned watermark on the next poll and repeat immediately while hasMore is true")
+    public ResponseEntity<TaskChangesResponse> getTaskChanges(@RequestParam(required = false) String since,
+                                                              @RequestParam(required = false) @Min(1) @Max(500) Integer limit) {
+        TaskChangesResponse changes = taskService.getTaskChanges(since, limit);
+        return ResponseEntity.ok(changes);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ApiOperation(value = "Stream task changes", notes = "Server-Sent Events of committed task changes (task-change events), optionally filtered by assignee, reporter, type or status. Reconnect with Last-Event-ID to resume; a resync event means events were lost and the client should catch up through /changes")
+    public SseEmitter streamTaskChanges(@RequestParam(required = false) Long assigneeId,
+                                        @RequestParam(required = false) Long reporterId,
+                                        @RequestParam(required = false) TaskType taskType,
+                                        @RequestParam(required = false) TaskStatus status,
+                                        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        TaskFilter filter = TaskFilter.all();
+        filter.setAssigneeId(assigneeId);
+        filter.setReporterId(reporterId);
+        filter.setTaskType(taskType);
+        filter.setStatus(status);
+        return taskEventStream.subscribe(filter, lastEventId);
+    }
+
     @GetMapping("/my")
-    @ApiOperation(value = "Get my tasks", notes = "Get tasks for current user")
-    public ResponseEntity<List<TaskResponse>> getMyTasks(Authentication authentication) {
-        User user = userService.findUserEntityByUsername(authentication.getName());
+    @QueryBudget(statements = 8)
+    @ApiOperation(value = "Get my tasks", notes = "Get tasks for current user. Honours If-None-Match / If-Modified-Since with 304")
+    public ResponseEntity<?> getMyTasks(@AuthenticationPrincipal User user,
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(required = false) @Min(1) @Max(500) Integer limit,
+                                        @RequestParam(defaultValue = "ID") TaskPageOrder orderBy,
+                                        WebRequest webRequest) {
+        VersionStamp stamp = taskService.getTaskStampForUser(user);
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
+        if (isPaged(cursor, limit)) {
+            return ResponseEntity.ok(taskService.getTaskPage(TaskFilter.involvingUser(user.getId()), cursor, limit, orderBy));
+        }
         List<TaskResponse> tasks = taskService.getTasksForUser(user);
         return ResponseEntity.ok(tasks);
     }
 
     @GetMapping("/assignee/{assigneeId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER') or @taskService.canUserEditTask(authentication.principal, #assigneeId)")
+    @QueryBudget(statements = 6)
     @ApiOperation(value = "Get tasks by assignee", notes = "Get tasks assigned to a specific user")
-    public ResponseEntity<List<TaskResponse>> getTasksByAssignee(@PathVariable Long assigneeId) {
+    public ResponseEntity<?> getTasksByAssignee(@PathVariable Long assigneeId,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(required = false) @Min(1) @Max(500) Integer limit,
+                                                @RequestParam(defaultValue = "ID") TaskPageOrder orderBy) {
+        if (isPaged(cursor, limit)) {
+            return ResponseEntity.ok(taskService.getTaskPage(TaskFilter.byAssignee(assigneeId), cursor, limit, orderBy));
+        }
         List<TaskResponse> tasks = taskService.getTasksByAssignee(assigneeId);
         return ResponseEntity.ok(tasks);
     }
 
     @GetMapping("/reporter/{reporterId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER') or authentication.principal.id == #reporterId")
+    @QueryBudget(statements = 6)
     @ApiOperation(value = "Get tasks by reporter", notes = "Get tasks reported by a specific user")
-    public ResponseEntity<List<TaskResponse>> getTasksByReporter(@PathVariable Long reporterId) {
+    public ResponseEntity<?> getTasksByReporter(@PathVariable Long reporterId,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(required = false) @Min(1) @Max(500) Integer limit,
+                                                @RequestParam(defaultValue = "ID") TaskPageOrder orderBy) {
+        if (isPaged(cursor, limit)) {
+            return ResponseEntity.ok(taskService.getTaskPage(TaskFilter.byReporter(reporterId), cursor, limit, orderBy));
+        }
         List<TaskResponse> tasks = taskService.getTasksByReporter(reporterId);
         return ResponseEntity.ok(tasks);
     }
 
     @GetMapping("/status/{status}")
+    @QueryBudget(statements = 6)
     @ApiOperation(value = "Get tasks by status", notes = "Get tasks by status")
-    public ResponseEntity<List<TaskResponse>> getTasksByStatus(@PathVariable TaskStatus status) {
+    public ResponseEntity<?> getTasksByStatus(@PathVariable TaskStatus status,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) @Min(1) @Max(500) Integer limit,
+                                              @RequestParam(defaultValue = "ID") TaskPageOrder orderBy) {
+        if (isPaged(cursor, limit)) {
+            return ResponseEntity.ok(taskService.getTaskPage(TaskFilter.byStatus(status), cursor, limit, orderBy));
+        }
         List<TaskResponse> tasks = taskService.getTasksByStatus(status);
         return ResponseEntity.ok(tasks);
     }
 
     @GetMapping("/type/{type}")
+    @QueryBudget(statements = 6)
     @ApiOperation(value = "Get tasks by type", notes = "Get tasks by type")
-    public ResponseEntity<List<TaskResponse>> getTasksByType(@PathVariable TaskType type) {
+    public ResponseEntity<?> getTasksByType(@PathVariable TaskType type,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(required = false) @Min(1) @Max(500) Integer limit,
+                                            @RequestParam(defaultValue = "ID") TaskPageOrder orderBy) {
+        if (isPaged(cursor, limit)) {
+            return ResponseEntity.ok(taskService.getTaskPage(TaskFilter.byType(type), cursor, limit, orderBy));
+        }
         List<TaskResponse> tasks = taskService.getTasksByType(type);
         return ResponseEntity.ok(tasks);
     }
 
     @GetMapping("/{parentId}/subtasks")
-    @ApiOperation(value = "Get subtasks", notes = "Get subtasks of a parent task")
-    public ResponseEntity<List<TaskResponse>> getSubtasks(@PathVariable Long parentId) {
+    @ApiOperation(value = "Get subtasks", notes = "Get subtasks of a parent task. Honours If-None-Match / If-Modified-Since with 304")
+    public ResponseEntity<List<TaskResponse>> getSubtasks(@PathVariable Long parentId, WebRequest webRequest) {
+        VersionStamp stamp = taskService.getTaskStamp(parentId);
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
         List<TaskResponse> subtasks = taskService.getSubtasks(parentId);
         return ResponseEntity.ok(subtasks);
     }
 
     @GetMapping("/search")
-    @ApiOperation(value = "Search tasks", notes = "Search tasks by title or description")
-    public ResponseEntity<List<TaskResponse>> searchTasks(@RequestParam String searchTerm) {
-        List<TaskResponse> tasks = taskService.searchTasks(searchTerm);
+    @ApiOperation(value = "Search tasks", notes = "Full-text search of parent tasks by title or description, best match first")
+    public ResponseEntity<PageResponse<TaskResponse>> searchTasks(@RequestParam String searchTerm,
+                                                                  @RequestParam(defaultValue = "0") @Min(0) int page,
+                                                                  @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        PageResponse<TaskResponse> tasks = taskService.searchTasks(searchTerm, page, size);
         return ResponseEntity.ok(tasks);
     }
 
     @PutMapping("/{id}")
-    @ApiOperation(value = "Update task", notes = "Update task details")
+    @ApiOperation(value = "Update task", notes = "Update task details. Send the task's ETag as If-Match to reject the update (412) if it changed since it was read")
     public ResponseEntity<TaskResponse> updateTask(@PathVariable Long id,
                                                    @Valid @RequestBody TaskUpdateRequest request,
-                                                   Authentication authentication) {
-        User currentUser = userService.findUserEntityByUsername(authentication.getName());
-        TaskResponse updatedTask = taskService.updateTask(id, request, currentUser);
-        return ResponseEntity.ok(updatedTask);
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                   @AuthenticationPrincipal User currentUser) {
+        TaskResponse updatedTask = taskService.updateTask(id, request, currentUser, TaskETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(taskService.getTaskStamp(id).getETag()).body(updatedTask);
     }
 
     @PutMapping("/{id}/transition")
-    @ApiOperation(value = "Transition task status", notes = "Transition task to a new status")
+    @ApiOperation(value = "Transition task status", notes = "Transition task to a new status. Returns 409 if another request moved the task first; send If-Match to also require an unchanged task (412)")
     public ResponseEntity<TaskResponse> transitionTaskStatus(@PathVariable Long id,
                                                              @Valid @RequestBody TaskStatusTransitionRequest request,
-                                                             Authentication authentication) {
-        User currentUser = userService.findUserEntityByUsername(authentication.getName());
-        TaskResponse updatedTask = taskService.transitionTaskStatus(id, request, currentUser);
-        return ResponseEntity.ok(updatedTask);
+                                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                             @AuthenticationPrincipal User currentUser) {
+        TaskResponse updatedTask = taskService.transitionTaskStatus(id, request, currentUser, TaskETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(taskService.getTaskStamp(id).getETag()).body(updatedTask);
     }
 
     @PutMapping("/{taskId}/assign/{assigneeId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER') or @taskService.canUserEditTask(authentication.principal, #taskId)")
     @ApiOperation(value = "Assign task", notes = "Assign task to a user")
     public ResponseEntity<TaskResponse> assignTask(@PathVariable Long taskId,
                                                    @PathVariable Long assigneeId,
-                                                   Authentication authentication) {
-        User currentUser = userService.findUserEntityByUsername(authentication.getName());
+                                                   @AuthenticationPrincipal User currentUser) {
         TaskResponse updatedTask = taskService.assignTask(taskId, assigneeId, currentUser);
-        return ResponseEntity.ok(updatedTask);
+        return ResponseEntity.ok().eTag(taskService.getTaskStamp(taskId).getETag()).body(updatedTask);
     }
 
     @GetMapping("/{id}/transitions")
@@ -148,9 +360,12 @@ public class TaskController {
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     @ApiOperation(value = "Delete task", notes = "Delete a task")
-    public ResponseEntity<Void> deleteTask(@PathVariable Long id, Authentication authentication) {
-        User currentUser = userService.findUserEntityByUsername(authentication.getName());
+    public ResponseEntity<Void> deleteTask(@PathVariable Long id, @AuthenticationPrincipal User currentUser) {
         taskService.deleteTask(id, currentUser);
         return ResponseEntity.ok().build();
     }
+
+    private boolean isPaged(String cursor, Integer limit) {
+        return cursor != null || limit != null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.talentica.taskmanagement.controller;
+
+import com.talentica.taskmanagement.exception.PreconditionFailedException;
+
+// Single-task ETags (VersionStamp) start with the task's own version, e.g. "7-3.2f.1k.lq0x9c"
+final class TaskETags {
+
+    private TaskETags() {}
+
+    // Returns the version an If-Match header pins, or null when the header is absent or "*"
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().isEmpty() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        int separator = tag.indexOf('-');
+        if (separator >= 0) {
+            tag = tag.substring(0, separator);
+        }
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match must be an ETag returned for this task: " + ifMatch, e);
+        }
+    }
+}
@@ -2,7 +2,10 @@ package com.talentica.taskmanagement.controller;
 
 import com.talentica.taskmanagement.dto.request.UserRegistrationRequest;
 import com.talentica.taskmanagement.dto.response.UserResponse;
+import com.talentica.taskmanagement.dto.response.WorkloadResponse;
 import com.talentica.taskmanagement.enums.UserRole;
+import com.talentica.taskmanagement.metrics.QueryBudget;
+import com.talentica.taskmanagement.repository.VersionStamp;
 import com.talentica.taskmanagement.service.UserService;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
@@ -10,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -24,16 +28,39 @@ public class UserController {
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @QueryBudget(statements = 3)
     @ApiOperation(value = "Get all users", notes = "Get list of all active users")
     public ResponseEntity<List<UserResponse>> getAllUsers() {
         List<UserResponse> users = userService.getAllUsers();
         return ResponseEntity.ok(users);
     }
 
+    @GetMapping("/workload")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @QueryBudget(statements = 4)
+    @ApiOperation(value = "Get team workload", notes = "Task counts by status for every active user, served from maintained counters")
+    public ResponseEntity<List<WorkloadResponse>> getTeamWorkload() {
+        List<WorkloadResponse> workload = userService.getTeamWorkload();
+        return ResponseEntity.ok(workload);
+    }
+
+    @GetMapping("/{id}/workload")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER') or authentication.principal.id == #id")
+    @ApiOperation(value = "Get user workload", notes = "Task counts by status for one user, served from maintained counters")
+    public ResponseEntity<WorkloadResponse> getUserWorkload(@PathVariable Long id) {
+        WorkloadResponse workload = userService.getUserWorkload(id);
+        return ResponseEntity.ok(workload);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    @ApiOperation(value = "Get user by ID", notes = "Get user details by ID")
-    public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
+    @QueryBudget(statements = 3)
+    @ApiOperation(value = "Get user by ID", notes = "Get user details by ID. Honours If-None-Match / If-Modified-Since with 304")
+    public ResponseEntity<UserResponse> getUserById(@PathVariable Long id, WebRequest webRequest) {
+        VersionStamp stamp = userService.getUserStamp(id);
+        if (webRequest.checkNotModified(stamp.getETag(), stamp.getLastModifiedMillis())) {
+            return null;
+        }
         UserResponse user = userService.getUserById(id);
         return ResponseEntity.ok(user);
     }
@@ -48,9 +75,10 @@ public class UserController {
 
     @GetMapping("/search")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
-    @ApiOperation(value = "Search users", notes = "Search users by name, username, or email")
-    public ResponseEntity<List<UserResponse>> searchUsers(@RequestParam String searchTerm) {
-        List<UserResponse> users = userService.searchUsers(searchTerm);
+    @ApiOperation(value = "Search users", notes = "Typeahead search of active users by name, username, or email, best matches first")
+    public ResponseEntity<List<UserResponse>> searchUsers(@RequestParam String searchTerm,
+                                                          @RequestParam(required = false) Integer limit) {
+        List<UserResponse> users = userService.searchUsers(searchTerm, limit);
         return ResponseEntity.ok(users);
     }
 
@@ -0,0 +1,39 @@
+package com.talentica.taskmanagement.dto.request;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+public class BulkTaskAssignRequest {
+
+    @NotEmpty(message = "At least one task id is required")
+    @Size(max = 1000, message = "At most 1000 tasks can be assigned per request")
+    private List<@NotNull Long> taskIds;
+
+    @NotNull(message = "Assignee id is required")
+    private Long assigneeId;
+
+    public BulkTaskAssignRequest() {}
+
+    public BulkTaskAssignRequest(List<Long> taskIds, Long assigneeId) {
+        this.taskIds = taskIds;
+        this.assigneeId = assigneeId;
+    }
+
+    public List<Long> getTaskIds() {
+        return taskIds;
+    }
+
+    public void setTaskIds(List<Long> taskIds) {
+        this.taskIds = taskIds;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.talentica.taskmanagement.dto.request;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+public class BulkTaskCreateRequest {
+
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = 1000, message = "At most 1000 tasks can be created per request")
+    @Valid
+    private List<TaskCreateRequest> tasks;
+
+    public BulkTaskCreateRequest() {}
+
+    public BulkTaskCreateRequest(List<TaskCreateRequest> tasks) {
+        this.tasks = tasks;
+    }
+
+    public List<TaskCreateRequest> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<TaskCreateRequest> tasks) {
+        this.tasks = tasks;
+    }
+}
@@ -0,0 +1,41 @@
+package com.talentica.taskmanagement.dto.request;
+
+import com.talentica.taskmanagement.enums.TaskStatus;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+public class BulkTaskTransitionRequest {
+
+    @NotEmpty(message = "At least one task id is required")
+    @Size(max = 1000, message = "At most 1000 tasks can be transitioned per request")
+    private List<@NotNull Long> taskIds;
+
+    @NotNull(message = "Target status is required")
+    private TaskStatus targetStatus;
+
+    public BulkTaskTransitionRequest() {}
+
+    public BulkTaskTransitionRequest(List<Long> taskIds, TaskStatus targetStatus) {
+        this.taskIds = taskIds;
+        this.targetStatus = targetStatus;
+    }
+
+    public List<Long> getTaskIds() {
+        return taskIds;
+    }
+
+    public void setTaskIds(List<Long> taskIds) {
+        this.taskIds = taskIds;
+    }
+
+    public TaskStatus getTargetStatus() {
+        return targetStatus;
+    }
+
+    public void setTargetStatus(TaskStatus targetStatus) {
+        this.targetStatus = targetStatus;
+    }
+}
@@ -0,0 +1,58 @@
+package com.talentica.taskmanagement.dto.response;
+
+public class BulkItemResult {
+
+    private int index;
+    private Long taskId;
+    private boolean success;
+    private String error;
+
+    public BulkItemResult() {}
+
+    public BulkItemResult(int index, Long taskId, boolean success, String error) {
+        this.index = index;
+        this.taskId = taskId;
+        this.success = success;
+        this.error = error;
+    }
+
+    public static BulkItemResult succeeded(int index, Long taskId) {
+        return new BulkItemResult(index, taskId, true, null);
+    }
+
+    public static BulkItemResult failed(int index, Long taskId, String error) {
+        return new BulkItemResult(index, taskId, false, error);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
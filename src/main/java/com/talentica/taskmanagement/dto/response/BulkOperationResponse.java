@@ -0,0 +1,52 @@
+package com.talentica.taskmanagement.dto.response;
+
+import java.util.List;
+
+public class BulkOperationResponse {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResult> results;
+
+    public BulkOperationResponse() {}
+
+    public BulkOperationResponse(List<BulkItemResult> results) {
+        this.results = results;
+        this.total = results.size();
+        this.succeeded = (int) results.stream().filter(BulkItemResult::isSuccess).count();
+        this.failed = total - succeeded;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BulkItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkItemResult> results) {
+        this.results = results;
+    }
+}
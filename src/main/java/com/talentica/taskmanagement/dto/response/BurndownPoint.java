@@ -0,0 +1,53 @@
+package com.talentica.taskmanagement.dto.response;
+
+import java.time.LocalDate;
+
+public class BurndownPoint {
+
+    private LocalDate date;
+    private long addedPoints;
+    private long completedPoints;
+    private long remainingPoints;
+
+    public BurndownPoint() {}
+
+    public BurndownPoint(LocalDate date, long addedPoints, long completedPoints, long remainingPoints) {
+        this.date = date;
+        this.addedPoints = addedPoints;
+        this.completedPoints = completedPoints;
+        this.remainingPoints = remainingPoints;
+    }
+
+    // Getters and Setters
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public long getAddedPoints() {
+        return addedPoints;
+    }
+
+    public void setAddedPoints(long addedPoints) {
+        this.addedPoints = addedPoints;
+    }
+
+    public long getCompletedPoints() {
+        return completedPoints;
+    }
+
+    public void setCompletedPoints(long completedPoints) {
+        this.completedPoints = completedPoints;
+    }
+
+    public long getRemainingPoints() {
+        return remainingPoints;
+    }
+
+    public void setRemainingPoints(long remainingPoints) {
+        this.remainingPoints = remainingPoints;
+    }
+}
@@ -0,0 +1,62 @@
+package com.talentica.taskmanagement.dto.response;
+
+// Hours; the percentiles are null when there are no samples
+public class DurationPercentiles {
+
+    private long samples;
+    private Double averageHours;
+    private Double p50Hours;
+    private Double p85Hours;
+    private Double p95Hours;
+
+    public DurationPercentiles() {}
+
+    public DurationPercentiles(long samples, Double averageHours, Double p50Hours, Double p85Hours, Double p95Hours) {
+        this.samples = samples;
+        this.averageHours = averageHours;
+        this.p50Hours = p50Hours;
+        this.p85Hours = p85Hours;
+        this.p95Hours = p95Hours;
+    }
+
+    // Getters and Setters
+    public long getSamples() {
+        return samples;
+    }
+
+    public void setSamples(long samples) {
+        this.samples = samples;
+    }
+
+    public Double getAverageHours() {
+        return averageHours;
+    }
+
+    public void setAverageHours(Double averageHours) {
+        this.averageHours = averageHours;
+    }
+
+    public Double getP50Hours() {
+        return p50Hours;
+    }
+
+    public void setP50Hours(Double p50Hours) {
+        this.p50Hours = p50Hours;
+    }
+
+    public Double getP85Hours() {
+        return p85Hours;
+    }
+
+    public void setP85Hours(Double p85Hours) {
+        this.p85Hours = p85Hours;
+    }
+
+    public Double getP95Hours() {
+        return p95Hours;
+    }
+
+    public void setP95Hours(Double p95Hours) {
+        this.p95Hours = p95Hours;
+    }
+}
@@ -0,0 +1,88 @@
+package com.talentica.taskmanagement.dto.response;
+
+import com.talentica.taskmanagement.enums.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public class FlowMetricsResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private long completedTasks;
+    private long completedPoints;
+    private Map<TaskStatus, Double> averageDwellHours;
+    private DurationPercentiles leadTime;
+    private DurationPercentiles cycleTime;
+
+    public FlowMetricsResponse() {}
+
+    public FlowMetricsResponse(LocalDate from, LocalDate to, long completedTasks, long completedPoints,
+                               Map<TaskStatus, Double> averageDwellHours, DurationPercentiles leadTime,
+                               DurationPercentiles cycleTime) {
+        this.from = from;
+        this.to = to;
+        this.completedTasks = completedTasks;
+        this.completedPoints = completedPoints;
+        this.averageDwellHours = averageDwellHours;
+        this.leadTime = leadTime;
+        this.cycleTime = cycleTime;
+    }
+
+    // Getters and Setters
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public long getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public void setCompletedTasks(long completedTasks) {
+        this.completedTasks = completedTasks;
+    }
+
+    public long getCompletedPoints() {
+        return completedPoints;
+    }
+
+    public void setCompletedPoints(long completedPoints) {
+        this.completedPoints = completedPoints;
+    }
+
+    public Map<TaskStatus, Double> getAverageDwellHours() {
+        return averageDwellHours;
+    }
+
+    public void setAverageDwellHours(Map<TaskStatus, Double> averageDwellHours) {
+        this.averageDwellHours = averageDwellHours;
+    }
+
+    public DurationPercentiles getLeadTime() {
+        return leadTime;
+    }
+
+    public void setLeadTime(DurationPercentiles leadTime) {
+        this.leadTime = leadTime;
+    }
+
+    public DurationPercentiles getCycleTime() {
+        return cycleTime;
+    }
+
+    public void setCycleTime(DurationPercentiles cycleTime) {
+        this.cycleTime = cycleTime;
+    }
+}
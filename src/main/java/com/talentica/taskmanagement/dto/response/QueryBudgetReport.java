@@ -0,0 +1,105 @@
+package com.talentica.taskmanagement.dto.response;
+
+import java.time.LocalDateTime;
+
+public class QueryBudgetReport {
+
+    private String endpoint;
+    private int budget;
+    private boolean declared;
+    private long requests;
+    private long overBudget;
+    private double averageStatements;
+    private long maxStatements;
+    private long maxEntityLoads;
+    private LocalDateTime lastExceededAt;
+
+    public QueryBudgetReport() {}
+
+    public QueryBudgetReport(String endpoint, int budget, boolean declared, long requests, long overBudget,
+                             double averageStatements, long maxStatements, long maxEntityLoads,
+                             LocalDateTime lastExceededAt) {
+        this.endpoint = endpoint;
+        this.budget = budget;
+        this.declared = declared;
+        this.requests = requests;
+        this.overBudget = overBudget;
+        this.averageStatements = averageStatements;
+        this.maxStatements = maxStatements;
+        this.maxEntityLoads = maxEntityLoads;
+        this.lastExceededAt = lastExceededAt;
+    }
+
+    // Getters and Setters
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public void setBudget(int budget) {
+        this.budget = budget;
+    }
+
+    public boolean isDeclared() {
+        return declared;
+    }
+
+    public void setDeclared(boolean declared) {
+        this.declared = declared;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public void setRequests(long requests) {
+        this.requests = requests;
+    }
+
+    public long getOverBudget() {
+        return overBudget;
+    }
+
+    public void setOverBudget(long overBudget) {
+        this.overBudget = overBudget;
+    }
+
+    public double getAverageStatements() {
+        return averageStatements;
+    }
+
+    public void setAverageStatements(double averageStatements) {
+        this.averageStatements = averageStatements;
+    }
+
+    public long getMaxStatements() {
+        return maxStatements;
+    }
+
+    public void setMaxStatements(long maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    public long getMaxEntityLoads() {
+        return maxEntityLoads;
+    }
+
+    public void setMaxEntityLoads(long maxEntityLoads) {
+        this.maxEntityLoads = maxEntityLoads;
+    }
+
+    public LocalDateTime getLastExceededAt() {
+        return lastExceededAt;
+    }
+
+    public void setLastExceededAt(LocalDateTime lastExceededAt) {
+        this.lastExceededAt = lastExceededAt;
+    }
+}
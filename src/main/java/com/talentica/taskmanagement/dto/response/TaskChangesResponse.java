@@ -0,0 +1,52 @@
+package com.talentica.taskmanagement.dto.response;
+
+import java.util.List;
+
+public class TaskChangesResponse {
+
+    private List<TaskResponse> changed;
+    private List<Long> deletedIds;
+    private String watermark;
+    private boolean hasMore;
+
+    public TaskChangesResponse() {}
+
+    public TaskChangesResponse(List<TaskResponse> changed, List<Long> deletedIds, String watermark, boolean hasMore) {
+        this.changed = changed;
+        this.deletedIds = deletedIds;
+        this.watermark = watermark;
+        this.hasMore = hasMore;
+    }
+
+    public List<TaskResponse> getChanged() {
+        return changed;
+    }
+
+    public void setChanged(List<TaskResponse> changed) {
+        this.changed = changed;
+    }
+
+    public List<Long> getDeletedIds() {
+        return deletedIds;
+    }
+
+    public void setDeletedIds(List<Long> deletedIds) {
+        this.deletedIds = deletedIds;
+    }
+
+    public String getWatermark() {
+        return watermark;
+    }
+
+    public void setWatermark(String watermark) {
+        this.watermark = watermark;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -20,10 +20,12 @@ public class TaskResponse {
     private UserResponse reporter;
     private TaskResponse parentTask;
     private List<TaskResponse> subtasks;
+    private Integer subtaskCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime dueDate;
     private LocalDateTime completedAt;
+    private Long version;
 
     public TaskResponse() {}
 
@@ -124,6 +126,14 @@ public class TaskResponse {
         this.subtasks = subtasks;
     }
 
+    public Integer getSubtaskCount() {
+        return subtaskCount;
+    }
+
+    public void setSubtaskCount(Integer subtaskCount) {
+        this.subtaskCount = subtaskCount;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -155,4 +165,12 @@ public class TaskResponse {
     public void setCompletedAt(LocalDateTime completedAt) {
         this.completedAt = completedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.talentica.taskmanagement.dto.response;
+
+import com.talentica.taskmanagement.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+public class TaskStatusChangeResponse {
+
+    private Long id;
+    private Long taskId;
+    private TaskStatus fromStatus;
+    private TaskStatus toStatus;
+    private Long actorId;
+    private LocalDateTime changedAt;
+
+    public TaskStatusChangeResponse() {}
+
+    public TaskStatusChangeResponse(Long id, Long taskId, TaskStatus fromStatus, TaskStatus toStatus, Long actorId,
+                                    LocalDateTime changedAt) {
+        this.id = id;
+        this.taskId = taskId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.actorId = actorId;
+        this.changedAt = changedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public TaskStatus getFromStatus() {
+        return fromStatus;
+    }
+
+    public void setFromStatus(TaskStatus fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public TaskStatus getToStatus() {
+        return toStatus;
+    }
+
+    public void setToStatus(TaskStatus toStatus) {
+        this.toStatus = toStatus;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public void setActorId(Long actorId) {
+        this.actorId = actorId;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,171 @@
+package com.talentica.taskmanagement.dto.response;
+
+import com.talentica.taskmanagement.enums.TaskStatus;
+import com.talentica.taskmanagement.enums.TaskType;
+import com.talentica.taskmanagement.enums.UserRole;
+
+import java.time.LocalDateTime;
+
+public class TaskSummaryResponse {
+
+    private Long id;
+    private String title;
+    private TaskType taskType;
+    private TaskStatus taskStatus;
+    private Integer storyPoints;
+    private LocalDateTime dueDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long parentTaskId;
+    private Long assigneeId;
+    private String assigneeUsername;
+    private UserRole assigneeRole;
+    private Long reporterId;
+    private String reporterUsername;
+    private UserRole reporterRole;
+
+    public TaskSummaryResponse() {}
+
+    // Used by constructor-expression queries in TaskRepository
+    public TaskSummaryResponse(Long id, String title, TaskType taskType, TaskStatus taskStatus, Integer storyPoints,
+                               LocalDateTime dueDate, LocalDateTime createdAt, LocalDateTime updatedAt, Long parentTaskId,
+                               Long assigneeId, String assigneeUsername, UserRole assigneeRole,
+                               Long reporterId, String reporterUsername, UserRole reporterRole) {
+        this.id = id;
+        this.title = title;
+        this.taskType = taskType;
+        this.taskStatus = taskStatus;
+        this.storyPoints = storyPoints;
+        this.dueDate = dueDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.parentTaskId = parentTaskId;
+        this.assigneeId = assigneeId;
+        this.assigneeUsername = assigneeUsername;
+        this.assigneeRole = assigneeRole;
+        this.reporterId = reporterId;
+        this.reporterUsername = reporterUsername;
+        this.reporterRole = reporterRole;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public TaskType getTaskType() {
+        return taskType;
+    }
+
+    public void setTaskType(TaskType taskType) {
+        this.taskType = taskType;
+    }
+
+    public TaskStatus getTaskStatus() {
+        return taskStatus;
+    }
+
+    public void setTaskStatus(TaskStatus taskStatus) {
+        this.taskStatus = taskStatus;
+    }
+
+    public Integer getStoryPoints() {
+        return storyPoints;
+    }
+
+    public void setStoryPoints(Integer storyPoints) {
+        this.storyPoints = storyPoints;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDateTime dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getParentTaskId() {
+        return parentTaskId;
+    }
+
+    public void setParentTaskId(Long parentTaskId) {
+        this.parentTaskId = parentTaskId;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public String getAssigneeUsername() {
+        return assigneeUsername;
+    }
+
+    public void setAssigneeUsername(String assigneeUsername) {
+        this.assigneeUsername = assigneeUsername;
+    }
+
+    public UserRole getAssigneeRole() {
+        return assigneeRole;
+    }
+
+    public void setAssigneeRole(UserRole assigneeRole) {
+        this.assigneeRole = assigneeRole;
+    }
+
+    public Long getReporterId() {
+        return reporterId;
+    }
+
+    public void setReporterId(Long reporterId) {
+        this.reporterId = reporterId;
+    }
+
+    public String getReporterUsername() {
+        return reporterUsername;
+    }
+
+    public void setReporterUsername(String reporterUsername) {
+        this.reporterUsername = reporterUsername;
+    }
+
+    public UserRole getReporterRole() {
+        return reporterRole;
+    }
+
+    public void setReporterRole(UserRole reporterRole) {
+        this.reporterRole = reporterRole;
+    }
+}
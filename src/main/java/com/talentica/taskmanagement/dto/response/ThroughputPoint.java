@@ -0,0 +1,43 @@
+package com.talentica.taskmanagement.dto.response;
+
+import java.time.LocalDate;
+
+public class ThroughputPoint {
+
+    private LocalDate weekStart;
+    private long completedTasks;
+    private long completedPoints;
+
+    public ThroughputPoint() {}
+
+    public ThroughputPoint(LocalDate weekStart, long completedTasks, long completedPoints) {
+        this.weekStart = weekStart;
+        this.completedTasks = completedTasks;
+        this.completedPoints = completedPoints;
+    }
+
+    // Getters and Setters
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public long getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public void setCompletedTasks(long completedTasks) {
+        this.completedTasks = completedTasks;
+    }
+
+    public long getCompletedPoints() {
+        return completedPoints;
+    }
+
+    public void setCompletedPoints(long completedPoints) {
+        this.completedPoints = completedPoints;
+    }
+}
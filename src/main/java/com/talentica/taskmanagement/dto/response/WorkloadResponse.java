@@ -0,0 +1,55 @@
+package com.talentica.taskmanagement.dto.response;
+
+import com.talentica.taskmanagement.enums.TaskStatus;
+
+import java.util.Map;
+
+public class WorkloadResponse {
+
+    private Long userId;
+    private String username;
+    private Map<TaskStatus, Long> tasksByStatus;
+    private long openTasks;
+
+    public WorkloadResponse() {}
+
+    public WorkloadResponse(Long userId, String username, Map<TaskStatus, Long> tasksByStatus, long openTasks) {
+        this.userId = userId;
+        this.username = username;
+        this.tasksByStatus = tasksByStatus;
+        this.openTasks = openTasks;
+    }
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public Map<TaskStatus, Long> getTasksByStatus() {
+        return tasksByStatus;
+    }
+
+    public void setTasksByStatus(Map<TaskStatus, Long> tasksByStatus) {
+        this.tasksByStatus = tasksByStatus;
+    }
+
+    public long getOpenTasks() {
+        return openTasks;
+    }
+
+    public void setOpenTasks(long openTasks) {
+        this.openTasks = openTasks;
+    }
+}
@@ -0,0 +1,78 @@
+package com.talentica.taskmanagement.entity;
+
+import com.talentica.taskmanagement.enums.TaskStatus;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// Number of tasks an assignee holds in one status, kept up to date by the task writes themselves
+@Entity
+@Table(name = "assignee_workload", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_assignee_workload_assignee_status", columnNames = {"assignee_id", "task_status"})
+})
+public class AssigneeWorkload {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "assignee_id", nullable = false)
+    private Long assigneeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "task_status", nullable = false)
+    private TaskStatus taskStatus;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    // Written by the counter upserts (migration V9 default for seeded rows); read only by the reconciler's SQL
+    @Column(name = "updated_at", insertable = false, updatable = false,
+            columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL")
+    private LocalDateTime updatedAt;
+
+    public AssigneeWorkload() {}
+
+    public AssigneeWorkload(Long assigneeId, TaskStatus taskStatus, long taskCount) {
+        this.assigneeId = assigneeId;
+        this.taskStatus = taskStatus;
+        this.taskCount = taskCount;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public TaskStatus getTaskStatus() {
+        return taskStatus;
+    }
+
+    public void setTaskStatus(TaskStatus taskStatus) {
+        this.taskStatus = taskStatus;
+    }
+
+    public long getTaskCount() {
+        return taskCount;
+    }
+
+    public void setTaskCount(long taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
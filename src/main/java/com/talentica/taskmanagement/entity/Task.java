@@ -2,6 +2,7 @@ package com.talentica.taskmanagement.entity;
 
 import com.talentica.taskmanagement.enums.TaskStatus;
 import com.talentica.taskmanagement.enums.TaskType;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.*;
 import javax.validation.constraints.NotBlank;
@@ -11,11 +12,29 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_assignee_status", columnList = "assignee_id, task_status"),
+        @Index(name = "idx_tasks_reporter", columnList = "reporter_id"),
+        @Index(name = "idx_tasks_parent_type", columnList = "parent_task_id, task_type"),
+        @Index(name = "idx_tasks_status_id", columnList = "task_status, id"),
+        @Index(name = "idx_tasks_type_id", columnList = "task_type, id"),
+        @Index(name = "idx_tasks_open_due_date", columnList = "due_date, task_status"),
+        @Index(name = "idx_tasks_updated_at_id", columnList = "updated_at, id")
+})
+@NamedEntityGraph(name = Task.GRAPH_WITH_RELATIONS, attributeNodes = {
+        @NamedAttributeNode("assignee"),
+        @NamedAttributeNode("reporter"),
+        @NamedAttributeNode("parentTask")
+})
+@BatchSize(size = 100)
 public class Task {
 
+    public static final String GRAPH_WITH_RELATIONS = "Task.withRelations";
+
+    // Pooled sequence (migration V5) so Hibernate can batch inserts; IDENTITY forces one round trip per row
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -59,8 +78,9 @@ public class Task {
     @JoinColumn(name = "parent_task_id")
     private Task parentTask;
 
-    // Child tasks (subtasks)
+    // Child tasks (subtasks), initialised in batches across all loaded parents
     @OneToMany(mappedBy = "parentTask", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
     private List<Task> subtasks;
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -69,6 +89,11 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Optimistic lock; the default lets existing rows pick up the column on ddl-auto update
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @Column(name = "due_date")
     private LocalDateTime dueDate;
 
@@ -234,6 +259,14 @@ public class Task {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public LocalDateTime getDueDate() {
         return dueDate;
     }
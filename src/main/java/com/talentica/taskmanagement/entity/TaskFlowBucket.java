@@ -0,0 +1,123 @@
+package com.talentica.taskmanagement.entity;
+
+import com.talentica.taskmanagement.enums.FlowMetric;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+// Daily pre-aggregate of task_status_history per assignee and epic (0 when there is none).
+// total is story points for CREATED/COMPLETED/REMOVED and seconds for the duration metrics; samples is the task count.
+@Entity
+@Table(name = "task_flow_daily", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_task_flow_daily_key",
+                columnNames = {"bucket_date", "assignee_id", "epic_id", "metric", "bin"})
+}, indexes = {
+        @Index(name = "idx_task_flow_daily_epic_date", columnList = "epic_id, bucket_date"),
+        @Index(name = "idx_task_flow_daily_assignee_date", columnList = "assignee_id, bucket_date")
+})
+public class TaskFlowBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;
+
+    @Column(name = "assignee_id", nullable = false)
+    private long assigneeId;
+
+    @Column(name = "epic_id", nullable = false)
+    private long epicId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private FlowMetric metric;
+
+    @Column(nullable = false)
+    private int bin;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Column(nullable = false)
+    private long samples;
+
+    public TaskFlowBucket() {}
+
+    public TaskFlowBucket(LocalDate bucketDate, long assigneeId, long epicId, FlowMetric metric, int bin,
+                          long total, long samples) {
+        this.bucketDate = bucketDate;
+        this.assigneeId = assigneeId;
+        this.epicId = epicId;
+        this.metric = metric;
+        this.bin = bin;
+        this.total = total;
+        this.samples = samples;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public LocalDate getBucketDate() {
+        return bucketDate;
+    }
+
+    public void setBucketDate(LocalDate bucketDate) {
+        this.bucketDate = bucketDate;
+    }
+
+    public long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public long getEpicId() {
+        return epicId;
+    }
+
+    public void setEpicId(long epicId) {
+        this.epicId = epicId;
+    }
+
+    public FlowMetric getMetric() {
+        return metric;
+    }
+
+    public void setMetric(FlowMetric metric) {
+        this.metric = metric;
+    }
+
+    public int getBin() {
+        return bin;
+    }
+
+    public void setBin(int bin) {
+        this.bin = bin;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    public void setSamples(long samples) {
+        this.samples = samples;
+    }
+}
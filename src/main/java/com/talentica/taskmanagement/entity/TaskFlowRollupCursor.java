@@ -0,0 +1,55 @@
+package com.talentica.taskmanagement.entity;
+
+import javax.persistence.*;
+
+// How far FlowRollup has read task_status_history: the (changed_at, id) of the last row folded into
+// task_flow_daily. A single row, locked for the length of each batch so instances take turns.
+@Entity
+@Table(name = "task_flow_rollup_cursor")
+public class TaskFlowRollupCursor {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "changed_at", nullable = false)
+    private long changedAt;
+
+    @Column(name = "history_id", nullable = false)
+    private long historyId;
+
+    public TaskFlowRollupCursor() {}
+
+    public TaskFlowRollupCursor(long changedAt, long historyId) {
+        this.id = ID;
+        this.changedAt = changedAt;
+        this.historyId = historyId;
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    // Epoch milliseconds
+    public long getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(long changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public long getHistoryId() {
+        return historyId;
+    }
+
+    public void setHistoryId(long historyId) {
+        this.historyId = historyId;
+    }
+}
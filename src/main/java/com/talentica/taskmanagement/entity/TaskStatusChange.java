@@ -0,0 +1,150 @@
+package com.talentica.taskmanagement.entity;
+
+import com.talentica.taskmanagement.enums.TaskStatus;
+
+import javax.persistence.*;
+
+// Append-only audit row for one status change: who moved which task from where to where, and when. A creation
+// row has no fromStatus and a deletion row no toStatus. The assignee and story points are those of the task at the time, which the flow analytics
+// rollup buckets by; it is the only status log. Kept compact (statuses as SMALLINT orders, time as epoch millis,
+// no foreign keys so history outlives deleted tasks and users). In production the table is range-partitioned by
+// month on changed_at (migration V11).
+@Entity
+@Table(name = "task_status_history", indexes = {
+        @Index(name = "idx_task_status_history_task", columnList = "task_id, changed_at"),
+        @Index(name = "idx_task_status_history_changed_at", columnList = "changed_at, id")
+})
+public class TaskStatusChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_status_history_id_seq")
+    @SequenceGenerator(name = "task_status_history_id_seq", sequenceName = "task_status_history_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false, updatable = false)
+    private Long taskId;
+
+    @Column(name = "actor_id", updatable = false)
+    private Long actorId;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private long changedAt;
+
+    @Convert(converter = TaskStatusOrderConverter.class)
+    @Column(name = "from_status", updatable = false)
+    private TaskStatus fromStatus;
+
+    @Convert(converter = TaskStatusOrderConverter.class)
+    @Column(name = "to_status", updatable = false)
+    private TaskStatus toStatus;
+
+    @Column(name = "assignee_id", updatable = false)
+    private Long assigneeId;
+
+    // Deletion rows only: the task's lineage is gone by the time the rollup reads them
+    @Column(name = "epic_id", updatable = false)
+    private Long epicId;
+
+    @Column(name = "story_points", updatable = false)
+    private Integer storyPoints;
+
+    public TaskStatusChange() {}
+
+    public TaskStatusChange(Long taskId, TaskStatus fromStatus, TaskStatus toStatus, Long actorId, long changedAt) {
+        this.taskId = taskId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.actorId = actorId;
+        this.changedAt = changedAt;
+    }
+
+    // task already carries its new status; fromStatus is null when it was just created
+    public static TaskStatusChange of(Task task, TaskStatus fromStatus, Long actorId, long changedAt) {
+        TaskStatusChange change = new TaskStatusChange(task.getId(), fromStatus, task.getTaskStatus(), actorId, changedAt);
+        change.setAssigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null);
+        change.setStoryPoints(task.getStoryPoints());
+        return change;
+    }
+
+    public static TaskStatusChange deleted(Task task, Long epicId, Long actorId, long changedAt) {
+        TaskStatusChange change = new TaskStatusChange(task.getId(), task.getTaskStatus(), null, actorId, changedAt);
+        change.setAssigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null);
+        change.setStoryPoints(task.getStoryPoints());
+        change.setEpicId(epicId);
+        return change;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public void setActorId(Long actorId) {
+        this.actorId = actorId;
+    }
+
+    // Epoch milliseconds
+    public long getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(long changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public TaskStatus getFromStatus() {
+        return fromStatus;
+    }
+
+    public void setFromStatus(TaskStatus fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public TaskStatus getToStatus() {
+        return toStatus;
+    }
+
+    public void setToStatus(TaskStatus toStatus) {
+        this.toStatus = toStatus;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public Integer getStoryPoints() {
+        return storyPoints;
+    }
+
+    public void setStoryPoints(Integer storyPoints) {
+        this.storyPoints = storyPoints;
+    }
+
+    public Long getEpicId() {
+        return epicId;
+    }
+
+    public void setEpicId(Long epicId) {
+        this.epicId = epicId;
+    }
+}
@@ -0,0 +1,21 @@
+package com.talentica.taskmanagement.entity;
+
+import com.talentica.taskmanagement.enums.TaskStatus;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+// Stores a TaskStatus as its SMALLINT workflow order rather than its name
+@Converter
+public class TaskStatusOrderConverter implements AttributeConverter<TaskStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TaskStatus status) {
+        return status != null ? (short) status.getOrder() : null;
+    }
+
+    @Override
+    public TaskStatus convertToEntityAttribute(Short order) {
+        return order != null ? TaskStatus.fromOrder(order) : null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.talentica.taskmanagement.entity;
 
 import com.talentica.taskmanagement.enums.UserRole;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,7 +16,10 @@ import java.util.Collections;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_active_role", columnList = "is_active, role")
+})
+@BatchSize(size = 100)
 public class User implements UserDetails {
 
     @Id
@@ -58,6 +62,11 @@ public class User implements UserDetails {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Optimistic lock; the default lets existing rows pick up the column on ddl-auto update
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @OneToMany(mappedBy = "assignee", fetch = FetchType.LAZY)
     private List<Task> assignedTasks;
 
@@ -196,6 +205,14 @@ public class User implements UserDetails {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public List<Task> getAssignedTasks() {
         return assignedTasks;
     }
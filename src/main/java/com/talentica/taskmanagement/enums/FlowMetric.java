@@ -0,0 +1,12 @@
+package com.talentica.taskmanagement.enums;
+
+// Measures rolled up into task_flow_daily. DWELL is binned by the status left, LEAD_TIME and CYCLE_TIME by
+// FlowHistogram duration bin; CREATED, COMPLETED and REMOVED (open tasks deleted) use bin 0 and sum story points.
+public enum FlowMetric {
+    CREATED,
+    COMPLETED,
+    REMOVED,
+    DWELL,
+    LEAD_TIME,
+    CYCLE_TIME
+}
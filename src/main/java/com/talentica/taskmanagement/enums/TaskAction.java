@@ -0,0 +1,19 @@
+package com.talentica.taskmanagement.enums;
+
+public enum TaskAction {
+    VIEW("View"),
+    EDIT("Edit"),
+    TRANSITION("Transition"),
+    ASSIGN("Assign"),
+    DELETE("Delete");
+
+    private final String displayName;
+
+    TaskAction(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
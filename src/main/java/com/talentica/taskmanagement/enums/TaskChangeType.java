@@ -0,0 +1,19 @@
+package com.talentica.taskmanagement.enums;
+
+public enum TaskChangeType {
+    CREATED("Created"),
+    UPDATED("Updated"),
+    TRANSITIONED("Transitioned"),
+    ASSIGNED("Assigned"),
+    DELETED("Deleted");
+
+    private final String displayName;
+
+    TaskChangeType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
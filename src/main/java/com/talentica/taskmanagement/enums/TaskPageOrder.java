@@ -0,0 +1,16 @@
+package com.talentica.taskmanagement.enums;
+
+public enum TaskPageOrder {
+    ID("Id ascending"),
+    UPDATED_AT("Last updated first");
+
+    private final String displayName;
+
+    TaskPageOrder(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
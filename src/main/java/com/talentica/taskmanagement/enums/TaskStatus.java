@@ -41,6 +41,16 @@ public enum TaskStatus {
         ALLOWED_TRANSITIONS.put(DONE, Arrays.asList()); // Final state
     }
 
+    // Inverse of getOrder(), for columns that store the compact order instead of the name
+    public static TaskStatus fromOrder(int order) {
+        for (TaskStatus status : values()) {
+            if (status.order == order) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown task status order: " + order);
+    }
+
     public List<TaskStatus> getAllowedTransitions() {
         return ALLOWED_TRANSITIONS.get(this);
     }
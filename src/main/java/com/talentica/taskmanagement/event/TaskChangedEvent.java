@@ -0,0 +1,108 @@
+package com.talentica.taskmanagement.event;
+
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskChangeType;
+import com.talentica.taskmanagement.enums.TaskStatus;
+import com.talentica.taskmanagement.enums.TaskType;
+
+import java.time.LocalDateTime;
+
+// Immutable snapshot of a task taken when a mutation is published, safe to read after the transaction ends
+public class TaskChangedEvent {
+
+    private final TaskChangeType changeType;
+    private final Long taskId;
+    private final String title;
+    private final String description;
+    private final TaskType taskType;
+    private final TaskStatus taskStatus;
+    private final TaskStatus previousStatus; // Set for TRANSITIONED only
+    private final Long assigneeId;
+    private final Long previousAssigneeId; // Set for ASSIGNED and UPDATED only
+    private final Long reporterId;
+    private final Long parentTaskId;
+    private final Integer storyPoints;
+    private final LocalDateTime occurredAt;
+
+    private TaskChangedEvent(TaskChangeType changeType, Task task, TaskStatus previousStatus, User previousAssignee) {
+        this.changeType = changeType;
+        this.taskId = task.getId();
+        this.title = task.getTitle();
+        this.description = task.getDescription();
+        this.taskType = task.getTaskType();
+        this.taskStatus = task.getTaskStatus();
+        this.previousStatus = previousStatus;
+        this.assigneeId = task.getAssignee() != null ? task.getAssignee().getId() : null;
+        this.previousAssigneeId = previousAssignee != null ? previousAssignee.getId() : null;
+        this.reporterId = task.getReporter() != null ? task.getReporter().getId() : null;
+        this.parentTaskId = task.getParentTask() != null ? task.getParentTask().getId() : null;
+        this.storyPoints = task.getStoryPoints();
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public static TaskChangedEvent of(TaskChangeType changeType, Task task) {
+        return new TaskChangedEvent(changeType, task, null, null);
+    }
+
+    // For changes that may have moved the task off previousAssignee
+    public static TaskChangedEvent of(TaskChangeType changeType, Task task, User previousAssignee) {
+        return new TaskChangedEvent(changeType, task, null, previousAssignee);
+    }
+
+    public static TaskChangedEvent transitioned(Task task, TaskStatus previousStatus) {
+        return new TaskChangedEvent(TaskChangeType.TRANSITIONED, task, previousStatus, null);
+    }
+
+    public TaskChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public TaskType getTaskType() {
+        return taskType;
+    }
+
+    public TaskStatus getTaskStatus() {
+        return taskStatus;
+    }
+
+    public TaskStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public Long getPreviousAssigneeId() {
+        return previousAssigneeId;
+    }
+
+    public Long getReporterId() {
+        return reporterId;
+    }
+
+    public Long getParentTaskId() {
+        return parentTaskId;
+    }
+
+    public Integer getStoryPoints() {
+        return storyPoints;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,51 @@
+package com.talentica.taskmanagement.event;
+
+import com.talentica.taskmanagement.entity.User;
+
+// Snapshot of a user taken when UserServiceImpl changes it, safe to read after the transaction ends
+public class UserChangedEvent {
+
+    private final Long userId;
+    private final String username;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final boolean active;
+
+    private UserChangedEvent(User user) {
+        this.userId = user.getId();
+        this.username = user.getUsername();
+        this.firstName = user.getFirstName();
+        this.lastName = user.getLastName();
+        this.email = user.getEmail();
+        this.active = Boolean.TRUE.equals(user.getIsActive());
+    }
+
+    public static UserChangedEvent of(User user) {
+        return new UserChangedEvent(user);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+}
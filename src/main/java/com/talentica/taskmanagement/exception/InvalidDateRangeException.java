@@ -0,0 +1,8 @@
+package com.talentica.taskmanagement.exception;
+
+public class InvalidDateRangeException extends RuntimeException {
+
+    public InvalidDateRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,85 @@
+package com.talentica.taskmanagement.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.talentica.taskmanagement.dto.response.TaskSummaryResponse;
+import com.talentica.taskmanagement.enums.TaskExportFormat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Writes task summaries one row at a time. Nothing is collected, so memory stays flat for any number of rows;
+// the first row is flushed straight away and then every flushEvery rows so the client sees progress.
+@Component
+public class TaskExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final String[] CSV_HEADER = {
+            "id", "title", "taskType", "taskStatus", "storyPoints", "dueDate", "createdAt", "updatedAt",
+            "parentTaskId", "assigneeId", "assigneeUsername", "assigneeRole", "reporterId", "reporterUsername",
+            "reporterRole"
+    };
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public long write(Stream<TaskSummaryResponse> rows, TaskExportFormat format, OutputStream out, int flushEvery)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        ObjectWriter jsonWriter = objectMapper.writerFor(TaskSummaryResponse.class);
+        if (format == TaskExportFormat.CSV) {
+            writeCsvRow(writer, (Object[]) CSV_HEADER);
+        }
+
+        long count = 0;
+        Iterator<TaskSummaryResponse> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            TaskSummaryResponse row = iterator.next();
+            if (format == TaskExportFormat.CSV) {
+                writeCsvRow(writer, row.getId(), row.getTitle(), row.getTaskType(), row.getTaskStatus(),
+                        row.getStoryPoints(), row.getDueDate(), row.getCreatedAt(), row.getUpdatedAt(),
+                        row.getParentTaskId(), row.getAssigneeId(), row.getAssigneeUsername(), row.getAssigneeRole(),
+                        row.getReporterId(), row.getReporterUsername(), row.getReporterRole());
+            } else {
+                writer.write(jsonWriter.writeValueAsString(row));
+                writer.write('\n');
+            }
+            if (++count == 1 || count % flushEvery == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(csvField(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180: quote fields holding a separator, quote or line break and double any embedded quotes
+    static String csvField(String value) {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return needsQuotes ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
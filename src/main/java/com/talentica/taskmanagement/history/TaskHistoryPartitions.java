@@ -0,0 +1,83 @@
+package com.talentica.taskmanagement.history;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+
+// Creates the monthly partitions of task_status_history (partitioned by changed_at in migration V11) for the
+// current month and the next few, at startup and then daily. Rows outside every partition land in the default
+// partition, which would block creating their month later, so partitions are kept well ahead of time.
+// Only enabled where Flyway created the partitioned table (prod); Hibernate-managed schemas get a plain table.
+@Component
+@ConditionalOnProperty(name = "task-history.partitions.enabled", havingValue = "true")
+public class TaskHistoryPartitions {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskHistoryPartitions.class);
+
+    static final String TABLE = "task_status_history";
+
+    private static final String EXISTING_SQL =
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = '" + TABLE + "'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${task-history.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    private Clock clock = Clock.systemUTC();
+
+    // The first run is synchronous so this month's partition exists before the first transition is written;
+    // if it cannot be created the application fails to start rather than filling the default partition
+    @PostConstruct
+    void init() {
+        ensurePartitions();
+    }
+
+    @Scheduled(fixedDelayString = "${task-history.partitions.interval-ms:86400000}",
+            initialDelayString = "${task-history.partitions.interval-ms:86400000}")
+    public int ensurePartitions() {
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(EXISTING_SQL, String.class));
+        YearMonth current = YearMonth.now(clock);
+        int created = 0;
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.contains(partitionName(month))) {
+                jdbcTemplate.execute(partitionDdl(month));
+                created++;
+            }
+        }
+        if (created > 0) {
+            logger.info("Created {} monthly partitions of {}", created, TABLE);
+        }
+        return created;
+    }
+
+    static String partitionName(YearMonth month) {
+        return String.format("%s_y%04dm%02d", TABLE, month.getYear(), month.getMonthValue());
+    }
+
+    // Month boundaries in UTC epoch millis, matching the changed_at encoding
+    static String partitionDdl(YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF " + TABLE +
+                " FOR VALUES FROM (" + startMillis(month) + ") TO (" + startMillis(month.plusMonths(1)) + ")";
+    }
+
+    private static long startMillis(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,17 @@
+package com.talentica.taskmanagement.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Declares how many SQL statements one request to the annotated endpoint may issue. QueryBudgetMonitor logs
+// requests over it in production and fails them when query-budget.fail-on-exceed is set (the test profile).
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int statements();
+}
@@ -0,0 +1,117 @@
+package com.talentica.taskmanagement.metrics;
+
+import com.talentica.taskmanagement.dto.response.QueryBudgetReport;
+import com.talentica.taskmanagement.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+// Checks each request's statement count against its endpoint's @QueryBudget, or query-budget.default-statements
+// for endpoints without one. Over-budget requests are logged and counted, and per-endpoint totals back the
+// top-offenders report. With fail-on-exceed, a request over a declared budget fails instead, so a test that
+// drives the endpoint catches an N+1 regression.
+@Component
+public class QueryBudgetMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryBudgetMonitor.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${query-budget.default-statements:50}")
+    private int defaultStatements;
+
+    @Value("${query-budget.fail-on-exceed:false}")
+    private boolean failOnExceed;
+
+    // Keyed by method and URI pattern, so the map is bounded by the number of endpoints
+    private final Map<String, EndpointTotals> endpoints = new ConcurrentHashMap<>();
+
+    // completed is false when the request already failed or, for async requests, its response is already committed;
+    // it is then only recorded, never failed
+    public void record(String method, String uri, QueryBudget declared, RequestQueryStats stats, boolean completed) {
+        String endpoint = method + " " + uri;
+        int budget = declared != null ? declared.statements() : defaultStatements;
+        boolean exceeded = stats.getStatements() > budget;
+
+        endpoints.computeIfAbsent(endpoint, key -> new EndpointTotals(budget, declared != null))
+                .record(stats, exceeded);
+        if (!exceeded) {
+            return;
+        }
+
+        Counter.builder("http.server.requests.query.budget.exceeded")
+                .description("Requests that issued more SQL statements than their endpoint's budget")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .increment();
+        String message = String.format("%s issued %d SQL statements (%d entity loads), over its budget of %d",
+                endpoint, stats.getStatements(), stats.getEntityLoads(), budget);
+        if (failOnExceed && declared != null && completed) {
+            throw new QueryBudgetExceededException(message);
+        }
+        logger.warn(message);
+    }
+
+    // Endpoints that went over budget most often first, then by their worst request
+    public List<QueryBudgetReport> getTopOffenders(int limit) {
+        return endpoints.entrySet().stream()
+                .map(entry -> entry.getValue().report(entry.getKey()))
+                .sorted(Comparator.comparingLong(QueryBudgetReport::getOverBudget).reversed()
+                        .thenComparing(Comparator.comparingLong(QueryBudgetReport::getMaxStatements).reversed()))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public void reset() {
+        endpoints.clear();
+    }
+
+    private static final class EndpointTotals {
+
+        private final int budget;
+        private final boolean declared;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder overBudget = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+        private final LongAccumulator maxEntityLoads = new LongAccumulator(Math::max, 0);
+        private volatile LocalDateTime lastExceededAt;
+
+        private EndpointTotals(int budget, boolean declared) {
+            this.budget = budget;
+            this.declared = declared;
+        }
+
+        private void record(RequestQueryStats stats, boolean exceeded) {
+            requests.increment();
+            statements.add(stats.getStatements());
+            maxStatements.accumulate(stats.getStatements());
+            maxEntityLoads.accumulate(stats.getEntityLoads());
+            if (exceeded) {
+                overBudget.increment();
+                lastExceededAt = LocalDateTime.now();
+            }
+        }
+
+        private QueryBudgetReport report(String endpoint) {
+            long count = requests.sum();
+            double average = count > 0 ? Math.round(statements.sum() * 10.0 / count) / 10.0 : 0;
+            return new QueryBudgetReport(endpoint, budget, declared, count, overBudget.sum(), average,
+                    maxStatements.get(), maxEntityLoads.get(), lastExceededAt);
+        }
+    }
+}
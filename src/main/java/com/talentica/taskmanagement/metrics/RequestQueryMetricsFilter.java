@@ -0,0 +1,116 @@
+package com.talentica.taskmanagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+// Records how many SQL statements and entity loads each request caused, tagged like http.server.requests
+// (method and URI pattern), so an endpoint that starts issuing N+1 queries shows up in production metrics, and
+// hands the tally to QueryBudgetMonitor. Runs first so the authentication lookup is counted too.
+// Requests that go async (StreamingResponseBody exports, SSE streams) are recorded when the async processing
+// completes: RequestQueryStatsCallableInterceptor carries the tally to the thread that streams the body. SSE events
+// are pushed by TaskEventStream's dispatcher without per-connection SQL, so a stream records its handshake. The
+// response is committed by then, so an async request over budget is only reported, never failed.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestQueryMetricsFilter extends OncePerRequestFilter {
+
+    static final String TALLY_ATTRIBUTE = RequestQueryMetricsFilter.class.getName() + ".TALLY";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private QueryBudgetMonitor queryBudgetMonitor;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStats.begin();
+        long[] counts = RequestQueryStats.current();
+        request.setAttribute(TALLY_ATTRIBUTE, counts);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed && request.isAsyncStarted()) {
+                RequestQueryStats.detach();
+                request.getAsyncContext().addListener(new AsyncCompletionListener(request, counts));
+            } else {
+                record(request, RequestQueryStats.end(), completed);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats, boolean completed) {
+        String method = request.getMethod();
+        String uri = uri(request);
+        DistributionSummary.builder("http.server.requests.jdbc.statements")
+                .description("SQL statements prepared per request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("http.server.requests.entity.loads")
+                .description("Entities loaded by Hibernate per request")
+                .tags("method", method, "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getEntityLoads());
+        queryBudgetMonitor.record(method, uri, declaredBudget(request), stats, completed);
+    }
+
+    private static QueryBudget declaredBudget(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        return handler instanceof HandlerMethod ? ((HandlerMethod) handler).getMethodAnnotation(QueryBudget.class) : null;
+    }
+
+    // The matched pattern keeps the tag bounded (/api/tasks/{id}, not every id); unmatched requests share one value
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private final class AsyncCompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final long[] counts;
+
+        private AsyncCompletionListener(HttpServletRequest request, long[] counts) {
+            this.request = request;
+            this.counts = counts;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(request, RequestQueryStats.of(counts), false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        // A new async cycle drops its listeners; stay registered until the request really completes
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
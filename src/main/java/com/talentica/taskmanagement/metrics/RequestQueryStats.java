@@ -0,0 +1,67 @@
+package com.talentica.taskmanagement.metrics;
+
+// Per-thread tally of JDBC statements prepared and entities loaded between begin() and end(). Hibernate callbacks
+// run on the thread that issued the work, so a tally opened by RequestQueryMetricsFilter covers that request
+// alone; work outside an open tally (background jobs) is not counted. A request that continues asynchronously
+// hands its open tally to the thread doing the rest of the work through current(), attach() and detach().
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    private final long statements;
+    private final long entityLoads;
+
+    private RequestQueryStats(long statements, long entityLoads) {
+        this.statements = statements;
+        this.entityLoads = entityLoads;
+    }
+
+    public static void begin() {
+        CURRENT.set(new long[2]);
+    }
+
+    public static RequestQueryStats end() {
+        long[] counts = CURRENT.get();
+        CURRENT.remove();
+        return counts != null ? new RequestQueryStats(counts[0], counts[1]) : new RequestQueryStats(0, 0);
+    }
+
+    static long[] current() {
+        return CURRENT.get();
+    }
+
+    static void attach(long[] counts) {
+        CURRENT.set(counts);
+    }
+
+    // Releases the calling thread's tally without closing it
+    static void detach() {
+        CURRENT.remove();
+    }
+
+    static RequestQueryStats of(long[] counts) {
+        return new RequestQueryStats(counts[0], counts[1]);
+    }
+
+    static void statementPrepared() {
+        long[] counts = CURRENT.get();
+        if (counts != null) {
+            counts[0]++;
+        }
+    }
+
+    static void entityLoaded() {
+        long[] counts = CURRENT.get();
+        if (counts != null) {
+            counts[1]++;
+        }
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getEntityLoads() {
+        return entityLoads;
+    }
+}
@@ -0,0 +1,25 @@
+package com.talentica.taskmanagement.metrics;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+// Attaches the request's open tally to the MVC task executor thread that runs its Callable or
+// StreamingResponseBody, so an export's streamed rows are counted against the export request
+public class RequestQueryStatsCallableInterceptor implements CallableProcessingInterceptor {
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        Object counts = request.getAttribute(RequestQueryMetricsFilter.TALLY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (counts instanceof long[]) {
+            RequestQueryStats.attach((long[]) counts);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        RequestQueryStats.detach();
+    }
+}
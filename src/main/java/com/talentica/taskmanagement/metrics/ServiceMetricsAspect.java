@@ -0,0 +1,56 @@
+package com.talentica.taskmanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Times every public call on the service interfaces (TaskService, UserService, AnalyticsService) as service.calls,
+// tagged by service, method and the exception thrown ("none" on success). The timer's count is the call counter.
+// Calls a service makes to itself are not proxied and so not counted twice.
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    private static final String SERVICE_PACKAGE = "com.talentica.taskmanagement.service.";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Class<?>, String> serviceNames = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.talentica.taskmanagement.service.*Service+.*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            exception = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            sample.stop(Timer.builder("service.calls")
+                    .description("Service method calls")
+                    .tags("service", serviceName(joinPoint), "method", joinPoint.getSignature().getName(),
+                            "exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    // The service interface name, so TaskServiceImpl reports as TaskService
+    private String serviceName(ProceedingJoinPoint joinPoint) {
+        return serviceNames.computeIfAbsent(joinPoint.getTarget().getClass(), type ->
+                ClassUtils.getAllInterfacesForClassAsSet(type).stream()
+                        .filter(candidate -> candidate.getName().startsWith(SERVICE_PACKAGE))
+                        .map(Class::getSimpleName)
+                        .findFirst()
+                        .orElse(type.getSimpleName()));
+    }
+}
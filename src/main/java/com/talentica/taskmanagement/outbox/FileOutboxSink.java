@@ -0,0 +1,49 @@
+package com.talentica.taskmanagement.outbox;
+
+import com.talentica.taskmanagement.entity.OutboxEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Appends one JSON object per event (NDJSON) to a local file, for integrating without a broker
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    @Value("${outbox.file.path:target/task-outbox.ndjson}")
+    private String path;
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        Path file = Paths.get(path);
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (OutboxEvent event : events) {
+                    // The payload is already JSON, so it is embedded as-is
+                    writer.write("{\"id\":" + event.getId() +
+                            ",\"type\":\"" + event.getEventType() + "\"" +
+                            ",\"aggregateId\":" + event.getAggregateId() +
+                            ",\"occurredAt\":\"" + event.getOccurredAt() + "\"" +
+                            ",\"payload\":" + event.getPayload() + "}");
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append outbox events to " + file, e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.talentica.taskmanagement.outbox;
+
+import com.talentica.taskmanagement.entity.OutboxEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+// Local/test sink: keeps the most recent events in memory, so they are lost on restart or overflow. Never a default;
+// a profile has to ask for it.
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "memory")
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final Deque<OutboxEvent> published = new ArrayDeque<>();
+
+    @Value("${outbox.memory.capacity:10000}")
+    private int capacity;
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            published.addLast(event);
+            if (published.size() > capacity) {
+                published.removeFirst();
+            }
+        }
+    }
+
+    public synchronized List<OutboxEvent> getPublished() {
+        return new ArrayList<>(published);
+    }
+}
@@ -0,0 +1,65 @@
+package com.talentica.taskmanagement.outbox;
+
+import com.talentica.taskmanagement.entity.OutboxEvent;
+import com.talentica.taskmanagement.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Drains task_outbox oldest-first in chunks: lock a batch, hand it to the sink, delete it, all in one
+// transaction. A failing sink rolls the batch back and it is retried on the next run. Another instance's
+// relay blocks on the locked batch and continues after it, so batches go out one at a time and in order.
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxSink outboxSink;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Keeps going while full batches come back, so a backlog clears without waiting for further ticks
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}", initialDelayString = "${outbox.relay.interval-ms:1000}")
+    public void drain() {
+        int drained;
+        do {
+            drained = drainBatch();
+        } while (drained == batchSize);
+    }
+
+    public int drainBatch() {
+        Integer drained = transactionTemplate.execute(status -> {
+            List<OutboxEvent> batch = outboxEventRepository.findOldest(PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            outboxSink.publish(batch);
+            outboxEventRepository.deleteByIdIn(batch.stream().map(OutboxEvent::getId).collect(Collectors.toList()));
+            return batch.size();
+        });
+        return drained != null ? drained : 0;
+    }
+}
@@ -0,0 +1,12 @@
+package com.talentica.taskmanagement.outbox;
+
+import com.talentica.taskmanagement.entity.OutboxEvent;
+
+import java.util.List;
+
+// Destination for drained outbox events. Batches arrive in id order; delivery is at-least-once (a batch is
+// retried if the relay fails before deleting it), so consumers should de-duplicate on the event id.
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,80 @@
+package com.talentica.taskmanagement.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentica.taskmanagement.entity.OutboxEvent;
+import com.talentica.taskmanagement.event.TaskChangedEvent;
+import com.talentica.taskmanagement.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Turns the TaskChangedEvents published by TaskServiceImpl into outbox rows. A plain @EventListener runs
+// synchronously inside the publishing transaction, so the row commits or rolls back with the task change.
+@Component
+public class TaskOutboxWriter {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        outboxEventRepository.save(new OutboxEvent(event.getTaskId(), eventType(event), payload(event),
+                event.getOccurredAt()));
+    }
+
+    static String eventType(TaskChangedEvent event) {
+        switch (event.getChangeType()) {
+            case CREATED:
+                return "TaskCreated";
+            case TRANSITIONED:
+                return "StatusTransitioned";
+            case ASSIGNED:
+                return "TaskAssigned";
+            case DELETED:
+                return "TaskDeleted";
+            default:
+                return "TaskUpdated";
+        }
+    }
+
+    // Compact: only the fields a consumer needs for the event type, nulls left out
+    private String payload(TaskChangedEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("taskId", event.getTaskId());
+        switch (event.getChangeType()) {
+            case CREATED:
+                payload.put("taskType", event.getTaskType());
+                payload.put("status", event.getTaskStatus());
+                payload.put("parentTaskId", event.getParentTaskId());
+                payload.put("reporterId", event.getReporterId());
+                payload.put("assigneeId", event.getAssigneeId());
+                break;
+            case TRANSITIONED:
+                payload.put("from", event.getPreviousStatus());
+                payload.put("to", event.getTaskStatus());
+                break;
+            case ASSIGNED:
+                payload.put("assigneeId", event.getAssigneeId());
+                break;
+            case UPDATED:
+                payload.put("status", event.getTaskStatus());
+                payload.put("assigneeId", event.getAssigneeId());
+                break;
+            default:
+                break;
+        }
+        payload.values().removeIf(value -> value == null);
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload for task " + event.getTaskId(), e);
+        }
+    }
+}
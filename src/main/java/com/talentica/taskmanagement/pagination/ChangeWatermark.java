@@ -0,0 +1,75 @@
+package com.talentica.taskmanagement.pagination;
+
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.entity.TaskTombstone;
+import com.talentica.taskmanagement.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Opaque position in the task change feed: the last (updatedAt, id) task and the last tombstone id sent
+public final class ChangeWatermark {
+
+    private static final String SEPARATOR = "|";
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final LocalDateTime updatedAt;
+    private final Long taskId;
+    private final Long tombstoneId;
+
+    private ChangeWatermark(LocalDateTime updatedAt, Long taskId, Long tombstoneId) {
+        this.updatedAt = updatedAt;
+        this.taskId = taskId;
+        this.tombstoneId = tombstoneId;
+    }
+
+    public static ChangeWatermark origin() {
+        return new ChangeWatermark(ORIGIN, 0L, 0L);
+    }
+
+    public static ChangeWatermark decode(String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed watermark", ex);
+        }
+
+        String[] parts = raw.split("\\|");
+        if (parts.length != 4 || !"W".equals(parts[0])) {
+            throw new InvalidCursorException("Malformed watermark");
+        }
+        try {
+            return new ChangeWatermark(LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]), Long.valueOf(parts[3]));
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Malformed watermark", ex);
+        }
+    }
+
+    public ChangeWatermark afterTask(Task task) {
+        return new ChangeWatermark(task.getUpdatedAt(), task.getId(), tombstoneId);
+    }
+
+    public ChangeWatermark afterTombstone(TaskTombstone tombstone) {
+        return new ChangeWatermark(updatedAt, taskId, tombstone.getId());
+    }
+
+    public String encode() {
+        String raw = "W" + SEPARATOR + updatedAt + SEPARATOR + taskId + SEPARATOR + tombstoneId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getTombstoneId() {
+        return tombstoneId;
+    }
+}
@@ -0,0 +1,57 @@
+package com.talentica.taskmanagement.pagination;
+
+import com.talentica.taskmanagement.entity.TaskStatusChange;
+import com.talentica.taskmanagement.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Keyset position in task_status_history, ordered by (changed_at, id)
+public final class HistoryCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final long changedAt;
+    private final long id;
+
+    private HistoryCursor(long changedAt, long id) {
+        this.changedAt = changedAt;
+        this.id = id;
+    }
+
+    public static HistoryCursor after(TaskStatusChange change) {
+        return new HistoryCursor(change.getChangedAt(), change.getId());
+    }
+
+    public static HistoryCursor decode(String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed cursor", ex);
+        }
+
+        String[] parts = raw.split("\\|");
+        if (parts.length != 3 || !"H".equals(parts[0])) {
+            throw new InvalidCursorException("Not a history cursor");
+        }
+        try {
+            return new HistoryCursor(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (NumberFormatException ex) {
+            throw new InvalidCursorException("Malformed cursor", ex);
+        }
+    }
+
+    public String encode() {
+        String raw = "H" + SEPARATOR + changedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public long getChangedAt() {
+        return changedAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
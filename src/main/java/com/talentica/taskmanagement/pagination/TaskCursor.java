@@ -0,0 +1,70 @@
+package com.talentica.taskmanagement.pagination;
+
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.enums.TaskPageOrder;
+import com.talentica.taskmanagement.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public final class TaskCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final TaskPageOrder order;
+    private final LocalDateTime updatedAt;
+    private final Long id;
+
+    private TaskCursor(TaskPageOrder order, LocalDateTime updatedAt, Long id) {
+        this.order = order;
+        this.updatedAt = updatedAt;
+        this.id = id;
+    }
+
+    public static TaskCursor after(Task task, TaskPageOrder order) {
+        return new TaskCursor(order, order == TaskPageOrder.UPDATED_AT ? task.getUpdatedAt() : null, task.getId());
+    }
+
+    public static TaskCursor decode(String token, TaskPageOrder order) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Malformed cursor", ex);
+        }
+
+        String[] parts = raw.split("\\|");
+        try {
+            if (order == TaskPageOrder.ID && parts.length == 2 && "I".equals(parts[0])) {
+                return new TaskCursor(order, null, Long.valueOf(parts[1]));
+            }
+            if (order == TaskPageOrder.UPDATED_AT && parts.length == 3 && "U".equals(parts[0])) {
+                return new TaskCursor(order, LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+            }
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Malformed cursor", ex);
+        }
+        throw new InvalidCursorException("Cursor does not match ordering " + order);
+    }
+
+    public String encode() {
+        String raw = order == TaskPageOrder.UPDATED_AT
+                ? "U" + SEPARATOR + updatedAt + SEPARATOR + id
+                : "I" + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public TaskPageOrder getOrder() {
+        return order;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,8 @@
+package com.talentica.taskmanagement.repository;
+
+import com.talentica.taskmanagement.enums.TaskStatus;
+
+public interface AssigneeWorkloadRepositoryCustom {
+
+    void add(Long assigneeId, TaskStatus status, long delta);
+}
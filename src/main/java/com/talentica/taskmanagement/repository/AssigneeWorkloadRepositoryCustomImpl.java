@@ -0,0 +1,55 @@
+package com.talentica.taskmanagement.repository;
+
+import com.talentica.taskmanagement.enums.TaskStatus;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+
+public class AssigneeWorkloadRepositoryCustomImpl implements AssigneeWorkloadRepositoryCustom {
+
+    // One statement, so two writers creating the same (assignee, status) row both land on
+    // uk_assignee_workload_assignee_status and add up. A first delta below zero seeds the row at 0, as the
+    // reconciler would. updated_at is the application clock, like the reconciler's settle cutoff.
+    private static final String POSTGRES_UPSERT =
+            "INSERT INTO assignee_workload (assignee_id, task_status, task_count, updated_at) " +
+            "VALUES (:assigneeId, :status, GREATEST(:delta, 0), :now) " +
+            "ON CONFLICT (assignee_id, task_status) DO UPDATE " +
+            "SET task_count = assignee_workload.task_count + :delta, updated_at = :now";
+
+    // H2 (tests) has no ON CONFLICT ... DO UPDATE; MERGE ... USING is its single-statement equivalent
+    private static final String H2_UPSERT =
+            "MERGE INTO assignee_workload w USING (SELECT CAST(:assigneeId AS BIGINT) assignee_id, " +
+            "CAST(:status AS VARCHAR(255)) task_status, CAST(:delta AS BIGINT) delta, " +
+            "CAST(:now AS TIMESTAMP) updated_at) d " +
+            "ON (w.assignee_id = d.assignee_id AND w.task_status = d.task_status) " +
+            "WHEN MATCHED THEN UPDATE SET task_count = w.task_count + d.delta, updated_at = d.updated_at " +
+            "WHEN NOT MATCHED THEN INSERT (assignee_id, task_status, task_count, updated_at) " +
+            "VALUES (d.assignee_id, d.task_status, GREATEST(d.delta, 0), d.updated_at)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile String upsert;
+
+    @Override
+    public void add(Long assigneeId, TaskStatus status, long delta) {
+        entityManager.createNativeQuery(upsertStatement())
+                .setParameter("assigneeId", assigneeId)
+                .setParameter("status", status.name())
+                .setParameter("delta", delta)
+                .setParameter("now", LocalDateTime.now())
+                .executeUpdate();
+    }
+
+    private String upsertStatement() {
+        if (upsert == null) {
+            boolean h2 = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect() instanceof H2Dialect;
+            upsert = h2 ? H2_UPSERT : POSTGRES_UPSERT;
+        }
+        return upsert;
+    }
+}
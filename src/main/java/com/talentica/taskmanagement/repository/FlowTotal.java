@@ -0,0 +1,47 @@
+package com.talentica.taskmanagement.repository;
+
+import com.talentica.taskmanagement.enums.FlowMetric;
+
+import java.time.LocalDate;
+
+// Aggregated task_flow_daily row: a metric's total and sample count for one day (sumByDay) or one bin (sumByBin)
+public class FlowTotal {
+
+    private final LocalDate bucketDate;
+    private final FlowMetric metric;
+    private final int bin;
+    private final long total;
+    private final long samples;
+
+    public FlowTotal(LocalDate bucketDate, FlowMetric metric, Number bin, Number total, Number samples) {
+        this.bucketDate = bucketDate;
+        this.metric = metric;
+        this.bin = bin != null ? bin.intValue() : 0;
+        this.total = total != null ? total.longValue() : 0;
+        this.samples = samples != null ? samples.longValue() : 0;
+    }
+
+    public FlowTotal(FlowMetric metric, Number bin, Number total, Number samples) {
+        this(null, metric, bin, total, samples);
+    }
+
+    public LocalDate getBucketDate() {
+        return bucketDate;
+    }
+
+    public FlowMetric getMetric() {
+        return metric;
+    }
+
+    public int getBin() {
+        return bin;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+}
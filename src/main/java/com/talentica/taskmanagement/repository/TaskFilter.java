@@ -0,0 +1,88 @@
+package com.talentica.taskmanagement.repository;
+
+import com.talentica.taskmanagement.enums.TaskStatus;
+import com.talentica.taskmanagement.enums.TaskType;
+
+public class TaskFilter {
+
+    private TaskStatus status;
+    private TaskType taskType;
+    private Long assigneeId;
+    private Long reporterId;
+    private Long involvedUserId; // Assignee or reporter
+
+    public static TaskFilter all() {
+        return new TaskFilter();
+    }
+
+    public static TaskFilter byStatus(TaskStatus status) {
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(status);
+        return filter;
+    }
+
+    public static TaskFilter byType(TaskType taskType) {
+        TaskFilter filter = new TaskFilter();
+        filter.setTaskType(taskType);
+        return filter;
+    }
+
+    public static TaskFilter byAssignee(Long assigneeId) {
+        TaskFilter filter = new TaskFilter();
+        filter.setAssigneeId(assigneeId);
+        return filter;
+    }
+
+    public static TaskFilter byReporter(Long reporterId) {
+        TaskFilter filter = new TaskFilter();
+        filter.setReporterId(reporterId);
+        return filter;
+    }
+
+    public static TaskFilter involvingUser(Long userId) {
+        TaskFilter filter = new TaskFilter();
+        filter.setInvolvedUserId(userId);
+        return filter;
+    }
+
+    // Getters and Setters
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public TaskType getTaskType() {
+        return taskType;
+    }
+
+    public void setTaskType(TaskType taskType) {
+        this.taskType = taskType;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public Long getReporterId() {
+        return reporterId;
+    }
+
+    public void setReporterId(Long reporterId) {
+        this.reporterId = reporterId;
+    }
+
+    public Long getInvolvedUserId() {
+        return involvedUserId;
+    }
+
+    public void setInvolvedUserId(Long involvedUserId) {
+        this.involvedUserId = involvedUserId;
+    }
+}
@@ -0,0 +1,48 @@
+package com.talentica.taskmanagement.repository;
+
+import com.talentica.taskmanagement.entity.TaskFlowBucket;
+import com.talentica.taskmanagement.enums.FlowMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+// Analytics reads aggregate these buckets, never task_status_history: a year of one epic or assignee is at
+// most a few thousand rows found through the (epic_id | assignee_id, bucket_date) indexes.
+@Repository
+public interface TaskFlowBucketRepository extends JpaRepository<TaskFlowBucket, Long> {
+
+    // Relative update, like the workload counters, so concurrent rollups add up instead of overwriting
+    @Modifying
+    @Query("UPDATE TaskFlowBucket b SET b.total = b.total + :total, b.samples = b.samples + :samples " +
+           "WHERE b.bucketDate = :bucketDate AND b.assigneeId = :assigneeId AND b.epicId = :epicId " +
+           "AND b.metric = :metric AND b.bin = :bin")
+    int increment(@Param("bucketDate") LocalDate bucketDate, @Param("assigneeId") long assigneeId,
+                  @Param("epicId") long epicId, @Param("metric") FlowMetric metric, @Param("bin") int bin,
+                  @Param("total") long total, @Param("samples") long samples);
+
+    // Per-day sums for burndown and throughput; a null epicId or assigneeId leaves that dimension unfiltered
+    @Query("SELECT new com.talentica.taskmanagement.repository.FlowTotal(b.bucketDate, b.metric, 0, " +
+           "SUM(b.total), SUM(b.samples)) FROM TaskFlowBucket b " +
+           "WHERE b.metric IN :metrics AND b.bucketDate >= :from AND b.bucketDate <= :to " +
+           "AND (:epicId IS NULL OR b.epicId = :epicId) AND (:assigneeId IS NULL OR b.assigneeId = :assigneeId) " +
+           "GROUP BY b.bucketDate, b.metric ORDER BY b.bucketDate")
+    List<FlowTotal> sumByDay(@Param("metrics") Collection<FlowMetric> metrics, @Param("from") LocalDate from,
+                             @Param("to") LocalDate to, @Param("epicId") Long epicId,
+                             @Param("assigneeId") Long assigneeId);
+
+    // Range sums per metric and bin for dwell averages and duration histograms
+    @Query("SELECT new com.talentica.taskmanagement.repository.FlowTotal(b.metric, b.bin, " +
+           "SUM(b.total), SUM(b.samples)) FROM TaskFlowBucket b " +
+           "WHERE b.metric IN :metrics AND b.bucketDate >= :from AND b.bucketDate <= :to " +
+           "AND (:epicId IS NULL OR b.epicId = :epicId) AND (:assigneeId IS NULL OR b.assigneeId = :assigneeId) " +
+           "GROUP BY b.metric, b.bin")
+    List<FlowTotal> sumByBin(@Param("metrics") Collection<FlowMetric> metrics, @Param("from") LocalDate from,
+                             @Param("to") LocalDate to, @Param("epicId") Long epicId,
+                             @Param("assigneeId") Long assigneeId);
+}
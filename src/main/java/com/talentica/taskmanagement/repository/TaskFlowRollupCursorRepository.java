@@ -0,0 +1,20 @@
+package com.talentica.taskmanagement.repository;
+
+import com.talentica.taskmanagement.entity.TaskFlowRollupCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+@Repository
+public interface TaskFlowRollupCursorRepository extends JpaRepository<TaskFlowRollupCursor, Integer> {
+
+    // Locked so two instances running the rollup never fold the same rows in twice
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM TaskFlowRollupCursor c WHERE c.id = :id")
+    Optional<TaskFlowRollupCursor> lock(@Param("id") Integer id);
+}
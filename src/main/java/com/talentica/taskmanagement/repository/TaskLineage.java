@@ -0,0 +1,33 @@
+package com.talentica.taskmanagement.repository;
+
+import com.talentica.taskmanagement.enums.TaskType;
+
+// A task with its parent and grandparent, enough to find the epic a subtask, story or task rolls up to
+public class TaskLineage {
+
+    private final Long taskId;
+    private final Long epicId;
+
+    public TaskLineage(Long taskId, TaskType taskType, Long parentId, TaskType parentType,
+                       Long grandparentId, TaskType grandparentType) {
+        this.taskId = taskId;
+        if (taskType == TaskType.EPIC) {
+            this.epicId = taskId;
+        } else if (parentType == TaskType.EPIC) {
+            this.epicId = parentId;
+        } else if (grandparentType == TaskType.EPIC) {
+            this.epicId = grandparentId;
+        } else {
+            this.epicId = null;
+        }
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    // null when the task is not under an epic
+    public Long getEpicId() {
+        return epicId;
+    }
+}
@@ -1,58 +1,193 @@
 package com.talentica.taskmanagement.repository;
 
+import com.talentica.taskmanagement.dto.response.TaskSummaryResponse;
 import com.talentica.taskmanagement.entity.Task;
 import com.talentica.taskmanagement.entity.User;
 import com.talentica.taskmanagement.enums.TaskStatus;
 import com.talentica.taskmanagement.enums.TaskType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+
+    // Read-only projection: one joined SELECT straight into DTOs, no managed entities
+    String SUMMARY_QUERY = "SELECT new com.talentica.taskmanagement.dto.response.TaskSummaryResponse(" +
+            "t.id, t.title, t.taskType, t.taskStatus, t.storyPoints, t.dueDate, t.createdAt, t.updatedAt, p.id, " +
+            "a.id, a.username, a.role, r.id, r.username, r.role) " +
+            "FROM Task t LEFT JOIN t.assignee a JOIN t.reporter r LEFT JOIN t.parentTask p ";
+
+    // Version stamps for conditional GETs. A task response nests its subtasks (epic -> story -> subtask, so two
+    // levels) and embeds its assignee, reporter and parent, so the versions of all of those are folded in.
+    String STAMP_COLUMNS = "COUNT(t), SUM(t.id), " +
+            "SUM(t.version + r.version + COALESCE(a.version, 0) + COALESCE(p.version, 0)), MAX(t.updatedAt)) ";
+
+    String STAMP_FROM = "FROM Task t JOIN t.reporter r LEFT JOIN t.assignee a " +
+            "LEFT JOIN t.parentTask p LEFT JOIN p.parentTask gp ";
+
+    @Override
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
+    List<Task> findAll();
+
+    // Ids of a task and its descendants down to maxDepth levels, walked in one recursive query over parent_task_id
+    @Query(value = "WITH RECURSIVE subtree (id, depth) AS (" +
+            "SELECT id, 0 FROM tasks WHERE id = :id " +
+            "UNION ALL " +
+            "SELECT c.id, s.depth + 1 FROM tasks c JOIN subtree s ON c.parent_task_id = s.id WHERE s.depth < :maxDepth) " +
+            "SELECT id FROM subtree", nativeQuery = true)
+    List<Number> findSubtreeIds(@Param("id") Long id, @Param("maxDepth") int maxDepth);
+
+    // Epic of each task (itself, its parent or its grandparent) in one query, for the flow analytics rollup
+    @Query("SELECT new com.talentica.taskmanagement.repository.TaskLineage(t.id, t.taskType, p.id, p.taskType, " +
+           "gp.id, gp.taskType) FROM Task t LEFT JOIN t.parentTask p LEFT JOIN p.parentTask gp WHERE t.id IN :ids")
+    List<TaskLineage> findLineage(@Param("ids") Collection<Long> ids);
+
+    // Child counts for a page of list rows, one grouped query over idx_tasks_parent_type; childless ids are absent
+    @Query("SELECT t.parentTask.id, COUNT(t) FROM Task t WHERE t.parentTask.id IN :ids GROUP BY t.parentTask.id")
+    List<Object[]> countSubtasks(@Param("ids") Collection<Long> ids);
+
+    @Override
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
+    Optional<Task> findById(Long id);
+
+    @Override
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
+    List<Task> findAllById(Iterable<Long> ids);
+
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
     List<Task> findByAssignee(User assignee);
 
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
     List<Task> findByReporter(User reporter);
 
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
     List<Task> findByTaskStatus(TaskStatus taskStatus);
 
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
     List<Task> findByTaskType(TaskType taskType);
 
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
     List<Task> findByParentTask(Task parentTask);
 
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
     List<Task> findByParentTaskIsNull();
 
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
     @Query("SELECT t FROM Task t WHERE t.assignee = :assignee AND t.taskStatus = :status")
     List<Task> findByAssigneeAndStatus(@Param("assignee") User assignee, @Param("status") TaskStatus status);
 
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
     @Query("SELECT t FROM Task t WHERE t.assignee = :assignee AND t.taskStatus IN :statuses")
     List<Task> findByAssigneeAndStatusIn(@Param("assignee") User assignee, @Param("statuses") List<TaskStatus> statuses);
 
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
     @Query("SELECT t FROM Task t WHERE t.taskType = :taskType AND t.assignee = :assignee")
     List<Task> findByTaskTypeAndAssignee(@Param("taskType") TaskType taskType, @Param("assignee") User assignee);
 
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
     @Query("SELECT t FROM Task t WHERE t.dueDate IS NOT NULL AND t.dueDate < :date AND t.taskStatus != :status")
     List<Task> findOverdueTasks(@Param("date") LocalDateTime date, @Param("status") TaskStatus status);
 
-    @Query("SELECT t FROM Task t WHERE t.parentTask IS NULL AND " +
-           "(LOWER(t.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(t.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
-    List<Task> searchParentTasks(@Param("searchTerm") String searchTerm);
-
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
     @Query("SELECT t FROM Task t WHERE t.parentTask = :parentTask AND t.taskType = :taskType")
     List<Task> findSubtasksByParentAndType(@Param("parentTask") Task parentTask, @Param("taskType") TaskType taskType);
 
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
     @Query("SELECT t FROM Task t WHERE t.assignee = :user OR t.reporter = :user")
     List<Task> findTasksByUser(@Param("user") User user);
 
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
     @Query("SELECT t FROM Task t WHERE t.taskType IN :taskTypes AND t.taskStatus IN :statuses")
     List<Task> findByTaskTypesAndStatuses(@Param("taskTypes") List<TaskType> taskTypes, @Param("statuses") List<TaskStatus> statuses);
 
+    @Query(SUMMARY_QUERY + "ORDER BY t.id")
+    List<TaskSummaryResponse> findAllSummaries();
+
+    @Query(SUMMARY_QUERY + "WHERE t.taskStatus = :status ORDER BY t.id")
+    List<TaskSummaryResponse> findSummariesByStatus(@Param("status") TaskStatus status);
+
+    @Query(SUMMARY_QUERY + "WHERE t.taskType = :taskType ORDER BY t.id")
+    List<TaskSummaryResponse> findSummariesByType(@Param("taskType") TaskType taskType);
+
+    @Query(SUMMARY_QUERY + "WHERE t.taskStatus = :status AND t.taskType = :taskType ORDER BY t.id")
+    List<TaskSummaryResponse> findSummariesByStatusAndType(@Param("status") TaskStatus status, @Param("taskType") TaskType taskType);
+
+    @Query(SUMMARY_QUERY + "WHERE a.id = :userId OR r.id = :userId ORDER BY t.id")
+    List<TaskSummaryResponse> findSummariesByUser(@Param("userId") Long userId);
+
+    // Delta sync: ascending (updatedAt, id) seek on idx_tasks_updated_at_id, capped at the settle cutoff
+    @EntityGraph(Task.GRAPH_WITH_RELATIONS)
+    @Query("SELECT t FROM Task t WHERE t.updatedAt <= :until " +
+           "AND (t.updatedAt > :since OR (t.updatedAt = :since AND t.id > :afterId)) ORDER BY t.updatedAt, t.id")
+    List<Task> findChangedSince(@Param("since") LocalDateTime since, @Param("afterId") Long afterId,
+                                @Param("until") LocalDateTime until, Pageable pageable);
+
     @Query("SELECT COUNT(t) FROM Task t WHERE t.assignee = :assignee AND t.taskStatus = :status")
     Long countByAssigneeAndStatus(@Param("assignee") User assignee, @Param("status") TaskStatus status);
-}
\ No newline at end of file
+
+    // Set-based writes for bulk transitions. They bypass @PreUpdate and @Version, so updatedAt/completedAt/version
+    // are set here, and the task_status guard skips rows that changed status since they were validated.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.taskStatus = :toStatus, t.updatedAt = :now, t.version = t.version + 1 " +
+           "WHERE t.id IN :ids AND t.taskStatus = :fromStatus")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids, @Param("fromStatus") TaskStatus fromStatus,
+                         @Param("toStatus") TaskStatus toStatus, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.taskStatus = com.talentica.taskmanagement.enums.TaskStatus.DONE, " +
+           "t.updatedAt = :now, t.completedAt = COALESCE(t.completedAt, :now), t.version = t.version + 1 " +
+           "WHERE t.id IN :ids AND t.taskStatus = :fromStatus")
+    int bulkComplete(@Param("ids") Collection<Long> ids, @Param("fromStatus") TaskStatus fromStatus,
+                     @Param("now") LocalDateTime now);
+
+    // Single-task compare-and-set transition, guarded on the version the request was validated against, so an
+    // edit or reassignment that committed in between makes it match no row, not only a competing transition
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.taskStatus = :toStatus, t.updatedAt = :now, t.version = t.version + 1 " +
+           "WHERE t.id = :id AND t.version = :version")
+    int updateStatus(@Param("id") Long id, @Param("toStatus") TaskStatus toStatus, @Param("version") Long version,
+                     @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.taskStatus = com.talentica.taskmanagement.enums.TaskStatus.DONE, " +
+           "t.updatedAt = :now, t.completedAt = COALESCE(t.completedAt, :now), t.version = t.version + 1 " +
+           "WHERE t.id = :id AND t.version = :version")
+    int complete(@Param("id") Long id, @Param("version") Long version, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.assignee = :assignee, t.updatedAt = :now, t.version = t.version + 1 " +
+           "WHERE t.id IN :ids")
+    int bulkAssign(@Param("ids") Collection<Long> ids, @Param("assignee") User assignee, @Param("now") LocalDateTime now);
+
+    // [root version, row count, id sum, version sum, max updated_at] over the task and all its descendants, the
+    // rows GET /api/tasks/{id} embeds at any depth. Same columns as STAMP_COLUMNS, walked like findSubtreeIds.
+    @Query(value = "WITH RECURSIVE subtree (id) AS (" +
+            "SELECT id FROM tasks WHERE id = :id " +
+            "UNION ALL " +
+            "SELECT c.id FROM tasks c JOIN subtree s ON c.parent_task_id = s.id) " +
+            "SELECT SUM(CASE WHEN t.id = :id THEN t.version ELSE 0 END), COUNT(*), SUM(t.id), " +
+            "SUM(t.version + r.version + COALESCE(a.version, 0) + COALESCE(p.version, 0)), MAX(t.updated_at) " +
+            "FROM subtree s JOIN tasks t ON t.id = s.id JOIN users r ON r.id = t.reporter_id " +
+            "LEFT JOIN users a ON a.id = t.assignee_id LEFT JOIN tasks p ON p.id = t.parent_task_id",
+            nativeQuery = true)
+    List<Object[]> findTreeStamp(@Param("id") Long id);
+
+    @Query("SELECT new com.talentica.taskmanagement.repository.VersionStamp(" + STAMP_COLUMNS + STAMP_FROM +
+           "WHERE a.id = :userId OR r.id = :userId OR p.assignee.id = :userId OR p.reporter.id = :userId " +
+           "OR gp.assignee.id = :userId OR gp.reporter.id = :userId")
+    VersionStamp findStampForUser(@Param("userId") Long userId);
+
+    // [id, version] of each row, locked until commit. Id order so concurrent bulk writes lock in the same order.
+    @Query(value = "SELECT id, version FROM tasks WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockVersions(@Param("ids") Collection<Long> ids);
+}
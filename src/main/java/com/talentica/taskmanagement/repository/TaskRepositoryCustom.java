@@ -0,0 +1,16 @@
+package com.talentica.taskmanagement.repository;
+
+import com.talentica.taskmanagement.dto.response.TaskSummaryResponse;
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.enums.TaskPageOrder;
+import com.talentica.taskmanagement.pagination.TaskCursor;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+
+    List<Task> findPage(TaskFilter filter, TaskCursor after, TaskPageOrder order, int limit);
+
+    Stream<TaskSummaryResponse> streamSummaries(TaskFilter filter, int fetchSize);
+}
@@ -0,0 +1,113 @@
+package com.talentica.taskmanagement.repository;
+
+import com.talentica.taskmanagement.dto.response.TaskSummaryResponse;
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskPageOrder;
+import com.talentica.taskmanagement.pagination.TaskCursor;
+import org.hibernate.annotations.QueryHints;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final String FETCH_GRAPH_HINT = "javax.persistence.fetchgraph";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Task> findPage(TaskFilter filter, TaskCursor after, TaskPageOrder order, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> task = query.from(Task.class);
+
+        List<Predicate> predicates = filterPredicates(cb, task, filter);
+        Path<Long> id = task.get("id");
+        Path<LocalDateTime> updatedAt = task.get("updatedAt");
+
+        // Seek past the cursor instead of using OFFSET, so every page costs the same
+        if (order == TaskPageOrder.UPDATED_AT) {
+            if (after != null) {
+                predicates.add(cb.or(
+                        cb.lessThan(updatedAt, after.getUpdatedAt()),
+                        cb.and(cb.equal(updatedAt, after.getUpdatedAt()), cb.lessThan(id, after.getId()))
+                ));
+            }
+            query.orderBy(cb.desc(updatedAt), cb.desc(id));
+        } else {
+            if (after != null) {
+                predicates.add(cb.greaterThan(id, after.getId()));
+            }
+            query.orderBy(cb.asc(id));
+        }
+
+        query.select(task).where(predicates.toArray(new Predicate[0]));
+
+        return entityManager.createQuery(query)
+                .setHint(FETCH_GRAPH_HINT, entityManager.getEntityGraph(Task.GRAPH_WITH_RELATIONS))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // Same flat projection as TaskRepository.SUMMARY_QUERY, read through a JDBC cursor: rows arrive fetchSize at a
+    // time and become DTOs, so no entity is ever attached to the persistence context however many rows there are.
+    // Postgres only honours the fetch size inside a transaction; the caller must keep one open and close the stream.
+    @Override
+    public Stream<TaskSummaryResponse> streamSummaries(TaskFilter filter, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSummaryResponse> query = cb.createQuery(TaskSummaryResponse.class);
+        Root<Task> task = query.from(Task.class);
+        Join<Task, User> assignee = task.join("assignee", JoinType.LEFT);
+        Join<Task, User> reporter = task.join("reporter");
+        Join<Task, Task> parent = task.join("parentTask", JoinType.LEFT);
+
+        query.select(cb.construct(TaskSummaryResponse.class,
+                task.get("id"), task.get("title"), task.get("taskType"), task.get("taskStatus"),
+                task.get("storyPoints"), task.get("dueDate"), task.get("createdAt"), task.get("updatedAt"),
+                parent.get("id"), assignee.get("id"), assignee.get("username"), assignee.get("role"),
+                reporter.get("id"), reporter.get("username"), reporter.get("role")))
+                .where(filterPredicates(cb, task, filter).toArray(new Predicate[0]))
+                .orderBy(cb.asc(task.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(QueryHints.FETCH_SIZE, fetchSize)
+                .setHint(QueryHints.READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Task> task, TaskFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getStatus() != null) {
+            predicates.add(cb.equal(task.get("taskStatus"), filter.getStatus()));
+        }
+        if (filter.getTaskType() != null) {
+            predicates.add(cb.equal(task.get("taskType"), filter.getTaskType()));
+        }
+        if (filter.getAssigneeId() != null) {
+            predicates.add(cb.equal(task.get("assignee").get("id"), filter.getAssigneeId()));
+        }
+        if (filter.getReporterId() != null) {
+            predicates.add(cb.equal(task.get("reporter").get("id"), filter.getReporterId()));
+        }
+        if (filter.getInvolvedUserId() != null) {
+            predicates.add(cb.or(
+                    cb.equal(task.get("assignee").get("id"), filter.getInvolvedUserId()),
+                    cb.equal(task.get("reporter").get("id"), filter.getInvolvedUserId())
+            ));
+        }
+        return predicates;
+    }
+}
@@ -0,0 +1,32 @@
+package com.talentica.taskmanagement.repository;
+
+import com.talentica.taskmanagement.entity.TaskStatusChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+// The range reads bound changed_at, so Postgres prunes to the months in range and scans one index per partition
+@Repository
+public interface TaskStatusChangeRepository extends JpaRepository<TaskStatusChange, Long> {
+
+    @Query("SELECT c FROM TaskStatusChange c WHERE c.taskId = :taskId " +
+           "AND c.changedAt >= :from AND c.changedAt < :to ORDER BY c.changedAt, c.id")
+    List<TaskStatusChange> findByTask(@Param("taskId") Long taskId, @Param("from") long from, @Param("to") long to);
+
+    // Keyset page of all tasks' changes in [from, to) after the (afterChangedAt, afterId) position
+    @Query("SELECT c FROM TaskStatusChange c WHERE c.changedAt >= :from AND c.changedAt < :to " +
+           "AND (c.changedAt > :afterChangedAt OR (c.changedAt = :afterChangedAt AND c.id > :afterId)) " +
+           "ORDER BY c.changedAt, c.id")
+    List<TaskStatusChange> findPage(@Param("from") long from, @Param("to") long to,
+                                    @Param("afterChangedAt") long afterChangedAt, @Param("afterId") long afterId,
+                                    Pageable pageable);
+
+    // Whole history of the given tasks, which a rollup batch needs to measure dwell, lead and cycle time
+    @Query("SELECT c FROM TaskStatusChange c WHERE c.taskId IN :taskIds ORDER BY c.taskId, c.changedAt, c.id")
+    List<TaskStatusChange> findHistory(@Param("taskIds") Collection<Long> taskIds);
+}
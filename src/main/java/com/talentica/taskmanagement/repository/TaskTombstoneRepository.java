@@ -0,0 +1,20 @@
+package com.talentica.taskmanagement.repository;
+
+import com.talentica.taskmanagement.entity.TaskTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    // Primary-key range scan from the watermark
+    @Query("SELECT t FROM TaskTombstone t WHERE t.id > :afterId AND t.deletedAt <= :until ORDER BY t.id")
+    List<TaskTombstone> findDeletedAfter(@Param("afterId") Long afterId, @Param("until") LocalDateTime until,
+                                         Pageable pageable);
+}
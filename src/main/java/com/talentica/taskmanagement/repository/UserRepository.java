@@ -30,10 +30,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.isActive = true AND u.role IN :roles")
     List<User> findActiveUsersByRoles(@Param("roles") List<UserRole> roles);
 
-    @Query("SELECT u FROM User u WHERE u.isActive = true AND " +
-           "(LOWER(u.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(u.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(u.username) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(u.email) LIKE LOWER(CONCAT('%', :searchTerm, '%')))")
-    List<User> searchActiveUsers(@Param("searchTerm") String searchTerm);
+    @Query("SELECT new com.talentica.taskmanagement.repository.VersionStamp(" +
+           "COUNT(u), SUM(u.id), SUM(u.version), MAX(u.updatedAt)) FROM User u WHERE u.id = :id")
+    VersionStamp findStampById(@Param("id") Long id);
+
 }
\ No newline at end of file
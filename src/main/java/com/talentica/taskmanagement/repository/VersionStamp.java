@@ -0,0 +1,48 @@
+package com.talentica.taskmanagement.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// Aggregate fingerprint of the rows behind a read: row count, id sum, version sum and newest updatedAt.
+// Any insert, delete or versioned update of those rows changes it, so it can answer a conditional GET
+// without loading the entities.
+public class VersionStamp {
+
+    private final Long version;
+    private final long rowCount;
+    private final long idSum;
+    private final long versionSum;
+    private final LocalDateTime lastModified;
+
+    public VersionStamp(Number rowCount, Number idSum, Number versionSum, LocalDateTime lastModified) {
+        this(null, rowCount, idSum, versionSum, lastModified);
+    }
+
+    // version is the root entity's own version; it prefixes the ETag so If-Match can still check it
+    public VersionStamp(Number version, Number rowCount, Number idSum, Number versionSum, LocalDateTime lastModified) {
+        this.version = version != null ? version.longValue() : null;
+        this.rowCount = rowCount != null ? rowCount.longValue() : 0;
+        this.idSum = idSum != null ? idSum.longValue() : 0;
+        this.versionSum = versionSum != null ? versionSum.longValue() : 0;
+        this.lastModified = lastModified;
+    }
+
+    public boolean isEmpty() {
+        return rowCount == 0;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public String getETag() {
+        String fingerprint = Long.toString(rowCount, 36) + "." + Long.toString(idSum, 36) + "." +
+                Long.toString(versionSum, 36) + "." + Long.toString(getLastModifiedMillis(), 36);
+        return "\"" + (version != null ? version + "-" : "") + fingerprint + "\"";
+    }
+
+    // -1 when there is nothing to date, which HTTP conditional handling treats as unknown
+    public long getLastModifiedMillis() {
+        return lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
@@ -0,0 +1,178 @@
+package com.talentica.taskmanagement.search;
+
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.enums.TaskChangeType;
+import com.talentica.taskmanagement.event.TaskChangedEvent;
+import com.talentica.taskmanagement.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Inverted index kept in process memory: term -> (task id -> weighted term frequency), scored with BM25.
+// Used where the database has no full-text support (H2 test profile, local dev).
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTaskSearchEngine implements TaskSearchEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryTaskSearchEngine.class);
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<Task> parentTasks = taskRepository.findByParentTaskIsNull();
+        for (Task task : parentTasks) {
+            index(task.getId(), task.getTitle(), task.getDescription());
+        }
+        logger.info("Indexed {} tasks for in-memory search", parentTasks.size());
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getChangeType() == TaskChangeType.DELETED) {
+            remove(event.getTaskId());
+        } else if (event.getParentTaskId() == null) {
+            index(event.getTaskId(), event.getTitle(), event.getDescription());
+        }
+    }
+
+    public void index(Long taskId, String title, String description) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String token : SearchTokenizer.tokenize(title)) {
+            termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : SearchTokenizer.tokenize(description)) {
+            termFrequencies.merge(token, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(taskId);
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(taskId, entry.getValue());
+                totalLength += entry.getValue();
+            }
+            documents.put(taskId, termFrequencies);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public TaskSearchResult search(String query, int page, int size) {
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenize(query));
+        if (terms.isEmpty()) {
+            return TaskSearchResult.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            // Intersect posting lists starting from the rarest term so every query term must match
+            List<Map<Long, Integer>> lists = new ArrayList<>();
+            for (String term : terms) {
+                Map<Long, Integer> list = postings.get(term);
+                if (list == null) {
+                    return TaskSearchResult.empty();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = documents.size();
+            double averageLength = documentCount == 0 ? 0 : (double) totalLength / documentCount;
+            List<TaskSearchHit> hits = new ArrayList<>();
+            for (Long taskId : lists.get(0).keySet()) {
+                double score = 0;
+                boolean matchesAll = true;
+                for (Map<Long, Integer> list : lists) {
+                    Integer frequency = list.get(taskId);
+                    if (frequency == null) {
+                        matchesAll = false;
+                        break;
+                    }
+                    score += bm25(frequency, list.size(), documentCount, documentLength(taskId), averageLength);
+                }
+                if (matchesAll) {
+                    hits.add(new TaskSearchHit(taskId, score));
+                }
+            }
+
+            hits.sort(Comparator.comparingDouble(TaskSearchHit::getScore).reversed()
+                    .thenComparing(TaskSearchHit::getTaskId));
+            int from = Math.min(page * size, hits.size());
+            int to = Math.min(from + size, hits.size());
+            return new TaskSearchResult(new ArrayList<>(hits.subList(from, to)), hits.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long taskId) {
+        Map<String, Integer> previous = documents.remove(taskId);
+        if (previous == null) {
+            return;
+        }
+        for (Map.Entry<String, Integer> entry : previous.entrySet()) {
+            Map<Long, Integer> list = postings.get(entry.getKey());
+            if (list != null) {
+                list.remove(taskId);
+                if (list.isEmpty()) {
+                    postings.remove(entry.getKey());
+                }
+            }
+            totalLength -= entry.getValue();
+        }
+    }
+
+    private int documentLength(Long taskId) {
+        Map<String, Integer> terms = documents.getOrDefault(taskId, Collections.emptyMap());
+        int length = 0;
+        for (int frequency : terms.values()) {
+            length += frequency;
+        }
+        return length;
+    }
+
+    private double bm25(int frequency, int documentFrequency, int documentCount, int length, double averageLength) {
+        double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        double norm = averageLength == 0 ? 1 : length / averageLength;
+        return idf * (frequency * (K1 + 1)) / (frequency + K1 * (1 - B + B * norm));
+    }
+}
@@ -0,0 +1,230 @@
+package com.talentica.taskmanagement.search;
+
+import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.event.UserChangedEvent;
+import com.talentica.taskmanagement.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+// Trigram index for substring matches plus a sorted prefix map for one- and two-character terms.
+// Only active users are indexed.
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryUserSearchEngine implements UserSearchEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryUserSearchEngine.class);
+
+    private static final int GRAM = 3;
+
+    private final Map<Long, IndexedUser> users = new HashMap<>();
+    private final Map<String, Set<Long>> trigrams = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> prefixes = new TreeMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<User> activeUsers = userRepository.findByIsActiveTrue();
+        for (User user : activeUsers) {
+            index(user.getId(), user.getUsername(), user.getFirstName(), user.getLastName(), user.getEmail());
+        }
+        logger.info("Indexed {} users for in-memory search", activeUsers.size());
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.isActive()) {
+            index(event.getUserId(), event.getUsername(), event.getFirstName(), event.getLastName(), event.getEmail());
+        } else {
+            remove(event.getUserId());
+        }
+    }
+
+    public void index(Long userId, String username, String firstName, String lastName, String email) {
+        IndexedUser user = new IndexedUser(userId, username, firstName, lastName, email);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(userId);
+            users.put(userId, user);
+            for (String field : user.fields()) {
+                for (String gram : grams(field)) {
+                    trigrams.computeIfAbsent(gram, key -> new HashSet<>()).add(userId);
+                }
+                prefixes.computeIfAbsent(field, key -> new HashSet<>()).add(userId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> search(String term, int limit) {
+        String needle = normalize(term);
+        if (needle.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            Collection<Long> candidates = needle.length() < GRAM ? prefixCandidates(needle) : gramCandidates(needle);
+            return candidates.stream()
+                    .map(users::get)
+                    .filter(user -> user != null && user.rank(needle) < IndexedUser.NO_MATCH)
+                    .sorted(Comparator.<IndexedUser>comparingInt(user -> user.rank(needle))
+                            .thenComparingInt(user -> user.username.length())
+                            .thenComparing(user -> user.username))
+                    .limit(limit)
+                    .map(user -> user.id)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Collection<Long> prefixCandidates(String needle) {
+        Set<Long> candidates = new HashSet<>();
+        for (Set<Long> ids : prefixes.subMap(needle, true, needle + Character.MAX_VALUE, true).values()) {
+            candidates.addAll(ids);
+        }
+        return candidates;
+    }
+
+    // A substring match must contain every trigram of the term; intersect from the rarest gram
+    private Collection<Long> gramCandidates(String needle) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(needle)) {
+            Set<Long> ids = trigrams.get(gram);
+            if (ids == null) {
+                return new HashSet<>();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> candidates = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i));
+        }
+        return candidates;
+    }
+
+    private void removeLocked(Long userId) {
+        IndexedUser previous = users.remove(userId);
+        if (previous == null) {
+            return;
+        }
+        for (String field : previous.fields()) {
+            for (String gram : grams(field)) {
+                removeFrom(trigrams, gram, userId);
+            }
+            removeFrom(prefixes, field, userId);
+        }
+    }
+
+    private static void removeFrom(Map<String, Set<Long>> index, String key, Long userId) {
+        Set<Long> ids = index.get(key);
+        if (ids != null) {
+            ids.remove(userId);
+            if (ids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class IndexedUser {
+
+        static final int NO_MATCH = 5;
+
+        final Long id;
+        final String username;
+        final String firstName;
+        final String lastName;
+        final String email;
+
+        IndexedUser(Long id, String username, String firstName, String lastName, String email) {
+            this.id = id;
+            this.username = normalize(username);
+            this.firstName = normalize(firstName);
+            this.lastName = normalize(lastName);
+            this.email = normalize(email);
+        }
+
+        List<String> fields() {
+            List<String> fields = new ArrayList<>();
+            for (String field : new String[]{username, firstName, lastName, email}) {
+                if (!field.isEmpty()) {
+                    fields.add(field);
+                }
+            }
+            return fields;
+        }
+
+        // Lower is better: exact username, username prefix, name prefix, email prefix, substring
+        int rank(String needle) {
+            if (username.equals(needle)) {
+                return 0;
+            }
+            if (username.startsWith(needle)) {
+                return 1;
+            }
+            if (firstName.startsWith(needle) || lastName.startsWith(needle)) {
+                return 2;
+            }
+            if (email.startsWith(needle)) {
+                return 3;
+            }
+            if (username.contains(needle) || firstName.contains(needle)
+                    || lastName.contains(needle) || email.contains(needle)) {
+                return 4;
+            }
+            return NO_MATCH;
+        }
+    }
+}
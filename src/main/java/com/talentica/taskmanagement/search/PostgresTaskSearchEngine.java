@@ -0,0 +1,42 @@
+package com.talentica.taskmanagement.search;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Uses the generated tasks.search_vector column and its GIN index (migration V3); Postgres keeps it current
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "postgres")
+public class PostgresTaskSearchEngine implements TaskSearchEngine {
+
+    private static final String SEARCH_SQL =
+            "SELECT t.id, ts_rank_cd(t.search_vector, q.query) AS score " +
+            "FROM tasks t, plainto_tsquery('english', :query) q(query) " +
+            "WHERE t.parent_task_id IS NULL AND t.search_vector @@ q.query " +
+            "ORDER BY score DESC, t.id " +
+            "LIMIT :limit OFFSET :offset";
+
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*) FROM tasks t " +
+            "WHERE t.parent_task_id IS NULL AND t.search_vector @@ plainto_tsquery('english', :query)";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public TaskSearchResult search(String query, int page, int size) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("limit", size)
+                .addValue("offset", (long) page * size);
+
+        List<TaskSearchHit> hits = jdbcTemplate.query(SEARCH_SQL, params,
+                (rs, rowNum) -> new TaskSearchHit(rs.getLong("id"), rs.getDouble("score")));
+        Long total = jdbcTemplate.queryForObject(COUNT_SQL, params, Long.class);
+        return new TaskSearchResult(hits, total != null ? total : 0);
+    }
+}
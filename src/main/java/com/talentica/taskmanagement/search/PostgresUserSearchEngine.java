@@ -0,0 +1,58 @@
+package com.talentica.taskmanagement.search;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Uses the generated users.search_text column and its pg_trgm GIN index (migrations V4 and V12). Matching and
+// ranking mirror InMemoryUserSearchEngine: terms shorter than a trigram match field prefixes only, longer terms
+// match a substring of any one field, and results are ranked by the same tiers and tie-breaks.
+@Component
+@ConditionalOnProperty(name = "search.engine", havingValue = "postgres")
+public class PostgresUserSearchEngine implements UserSearchEngine {
+
+    // Precedes every field in search_text, so a pattern without it cannot span two fields
+    static final char FIELD_SEPARATOR = '\u001f';
+
+    private static final int MIN_SUBSTRING_LENGTH = 3;
+
+    private static final String SEARCH_SQL =
+            "SELECT u.id FROM users u " +
+            "WHERE u.is_active = TRUE AND u.search_text LIKE :pattern " +
+            "ORDER BY CASE " +
+            "  WHEN lower(u.username) = :term THEN 0 " +
+            "  WHEN lower(u.username) LIKE :prefix THEN 1 " +
+            "  WHEN lower(u.first_name) LIKE :prefix OR lower(u.last_name) LIKE :prefix THEN 2 " +
+            "  WHEN lower(u.email) LIKE :prefix THEN 3 " +
+            "  ELSE 4 END, " +
+            "length(u.username), lower(u.username) " +
+            "LIMIT :limit";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> search(String term, int limit) {
+        String needle = term.trim().toLowerCase(Locale.ROOT);
+        if (needle.isEmpty() || needle.indexOf(FIELD_SEPARATOR) >= 0) {
+            return new ArrayList<>();
+        }
+        String escaped = needle.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        String pattern = needle.length() < MIN_SUBSTRING_LENGTH
+                ? "%" + FIELD_SEPARATOR + escaped + "%"
+                : "%" + escaped + "%";
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("term", needle)
+                .addValue("prefix", escaped + "%")
+                .addValue("pattern", pattern)
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(SEARCH_SQL, params, Long.class);
+    }
+}
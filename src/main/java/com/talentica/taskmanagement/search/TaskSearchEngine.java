@@ -0,0 +1,7 @@
+package com.talentica.taskmanagement.search;
+
+public interface TaskSearchEngine {
+
+    // Ranked full-text search over parent tasks (title and description), best match first
+    TaskSearchResult search(String query, int page, int size);
+}
@@ -0,0 +1,20 @@
+package com.talentica.taskmanagement.search;
+
+public class TaskSearchHit {
+
+    private final Long taskId;
+    private final double score;
+
+    public TaskSearchHit(Long taskId, double score) {
+        this.taskId = taskId;
+        this.score = score;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
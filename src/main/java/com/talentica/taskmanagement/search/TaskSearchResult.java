@@ -0,0 +1,27 @@
+package com.talentica.taskmanagement.search;
+
+import java.util.Collections;
+import java.util.List;
+
+public class TaskSearchResult {
+
+    private final List<TaskSearchHit> hits;
+    private final long totalHits;
+
+    public TaskSearchResult(List<TaskSearchHit> hits, long totalHits) {
+        this.hits = hits;
+        this.totalHits = totalHits;
+    }
+
+    public static TaskSearchResult empty() {
+        return new TaskSearchResult(Collections.emptyList(), 0);
+    }
+
+    public List<TaskSearchHit> getHits() {
+        return hits;
+    }
+
+    public long getTotalHits() {
+        return totalHits;
+    }
+}
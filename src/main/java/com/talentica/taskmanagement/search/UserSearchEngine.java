@@ -0,0 +1,9 @@
+package com.talentica.taskmanagement.search;
+
+import java.util.List;
+
+public interface UserSearchEngine {
+
+    // Ids of active users matching the term by prefix or substring, most relevant first
+    List<Long> search(String term, int limit);
+}
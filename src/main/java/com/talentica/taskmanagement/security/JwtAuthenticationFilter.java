@@ -1,5 +1,8 @@
 package com.talentica.taskmanagement.security;
 
+import com.talentica.taskmanagement.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -25,18 +28,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                    FilterChain filterChain) throws ServletException, IOException {
         
         String jwt = getJwtFromRequest(request);
 
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            String username = tokenProvider.getUsernameFromToken(jwt);
+        VerifiedToken verifiedToken = StringUtils.hasText(jwt) ? verify(jwt) : null;
 
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (verifiedToken != null) {
+            String username = verifiedToken.getSubject();
+
+            User user = principalCache.get(username);
+            if (user == null) {
+                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                user = principalCache.put(username, (User) userDetails);
+            }
             UsernamePasswordAuthenticationToken authentication = 
-                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -45,6 +60,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // jwt.validation covers both verified-token cache hits and full signature checks
+    private VerifiedToken verify(String jwt) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        VerifiedToken verifiedToken = tokenProvider.verifyToken(jwt);
+        sample.stop(Timer.builder("jwt.validation")
+                .description("JWT signature and expiry verification")
+                .tag("outcome", verifiedToken != null ? "valid" : "invalid")
+                .register(meterRegistry));
+        return verifiedToken;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -2,39 +2,68 @@ package com.talentica.taskmanagement.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private int jwtExpirationInMs;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // 0 disables the verified-token cache
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize;
+
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    // SHA-256 of the token -> verified subject/expiry, so a re-sent token skips the HMAC verify and JSON parse
+    private final Map<String, VerifiedToken> verifiedTokens = new LinkedHashMap<String, VerifiedToken>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+            return size() > verifiedCacheMaxSize;
+        }
+    };
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     public String generateToken(Authentication authentication) {
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-        Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationInMs);
-
-        return Jwts.builder()
-                .setSubject(userPrincipal.getUsername())
-                .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+        return generateTokenFromUsername(userPrincipal.getUsername());
     }
 
     public String generateTokenFromUsername(String username) {
@@ -44,36 +73,66 @@ public class JwtTokenProvider {
                 .setSubject(username)
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // Single pass: verifies signature and expiry once and returns the claims the caller needs, or null if invalid
+    public VerifiedToken verifyToken(String token) {
+        long now = System.currentTimeMillis();
+        String cacheKey = verifiedCacheMaxSize > 0 && token != null ? hash(token) : null;
+
+        if (cacheKey != null) {
+            VerifiedToken cached = getCached(cacheKey, now);
+            if (cached != null) {
+                return cached;
+            }
+        }
 
-        return claims.getSubject();
+        VerifiedToken verified = parse(token);
+        if (verified != null && cacheKey != null && !verified.isExpired(now)) {
+            synchronized (verifiedTokens) {
+                verifiedTokens.put(cacheKey, verified);
+            }
+        }
+        return verified;
+    }
+
+    public String getUsernameFromToken(String token) {
+        VerifiedToken verified = verifyToken(token);
+        return verified != null ? verified.getSubject() : null;
     }
 
     public boolean validateToken(String authToken) {
+        return verifyToken(authToken) != null;
+    }
+
+    private VerifiedToken parse(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(authToken);
-            return true;
-        } catch (MalformedJwtException ex) {
-            System.err.println("Invalid JWT token");
-        } catch (ExpiredJwtException ex) {
-            System.err.println("Expired JWT token");
-        } catch (UnsupportedJwtException ex) {
-            System.err.println("Unsupported JWT token");
-        } catch (IllegalArgumentException ex) {
-            System.err.println("JWT claims string is empty");
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            return new VerifiedToken(claims.getSubject(), expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+        } catch (JwtException | IllegalArgumentException ex) {
+            // Expired, malformed, unsupported or badly signed: the client gets a 401, so this is not logged above debug
+            logger.debug("Rejected JWT: {}: {}", ex.getClass().getSimpleName(), ex.getMessage());
         }
-        return false;
+        return null;
+    }
+
+    private VerifiedToken getCached(String cacheKey, long now) {
+        synchronized (verifiedTokens) {
+            VerifiedToken cached = verifiedTokens.get(cacheKey);
+            if (cached != null && cached.isExpired(now)) {
+                verifiedTokens.remove(cacheKey);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    private static String hash(String token) {
+        MessageDigest digest = SHA_256.get();
+        digest.reset();
+        return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,103 @@
+package com.talentica.taskmanagement.security;
+
+import com.talentica.taskmanagement.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Bounded, time-limited cache of authenticated principals keyed by the JWT subject (username).
+// Entries are detached copies without password or lazy collections, so they are safe to share across requests.
+@Component
+public class PrincipalCache {
+
+    @Value("${security.principal-cache.ttl-ms:60000}")
+    private long ttlMs;
+
+    @Value("${security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    public synchronized User get(String username) {
+        Entry entry = entries.get(username);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(username);
+            return null;
+        }
+        return entry.user;
+    }
+
+    public User put(String username, User user) {
+        User snapshot = snapshot(user);
+        if (ttlMs > 0) {
+            synchronized (this) {
+                entries.put(username, new Entry(snapshot, System.currentTimeMillis() + ttlMs));
+            }
+        }
+        return snapshot;
+    }
+
+    // Evicts now and, inside a transaction, again after commit so a request racing the write cannot re-cache stale state
+    public void invalidate(String username) {
+        evict(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(username);
+                }
+            });
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void evict(String username) {
+        entries.remove(username);
+    }
+
+    private static User snapshot(User user) {
+        User copy = new User();
+        copy.setId(user.getId());
+        copy.setUsername(user.getUsername());
+        copy.setEmail(user.getEmail());
+        copy.setFirstName(user.getFirstName());
+        copy.setLastName(user.getLastName());
+        copy.setRole(user.getRole());
+        copy.setIsActive(user.getIsActive());
+        copy.setCreatedAt(user.getCreatedAt());
+        copy.setUpdatedAt(user.getUpdatedAt());
+        // Without a version Hibernate would treat the snapshot as transient when it is referenced by a task
+        copy.setVersion(user.getVersion());
+        return copy;
+    }
+
+    private static final class Entry {
+
+        final User user;
+        final long expiresAt;
+
+        Entry(User user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
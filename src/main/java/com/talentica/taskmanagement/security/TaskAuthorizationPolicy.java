@@ -0,0 +1,77 @@
+package com.talentica.taskmanagement.security;
+
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskAction;
+import com.talentica.taskmanagement.enums.TaskType;
+import com.talentica.taskmanagement.enums.UserRole;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Task permission rules evaluated against already-loaded entities, so callers pay for one task read at most
+@Component
+public class TaskAuthorizationPolicy {
+
+    public boolean isAllowed(User user, Task task, TaskAction action) {
+        switch (action) {
+            case VIEW:
+                // Every authenticated user can read every task
+                return true;
+            case EDIT:
+                // Admin, manager, reporter or assignee
+                return isAdminOrManager(user) || isReporter(user, task) || isAssignee(user, task);
+            case TRANSITION:
+                // Admin, manager or assignee
+                return isAdminOrManager(user) || isAssignee(user, task);
+            case ASSIGN:
+            case DELETE:
+                // Admin, manager or reporter
+                return isAdminOrManager(user) || isReporter(user, task);
+            default:
+                return false;
+        }
+    }
+
+    // parentTask is the already-loaded parent, or null for top-level tasks
+    public boolean canCreate(User user, TaskType taskType, Task parentTask) {
+        // Check basic role permissions
+        if (!user.getRole().canCreate(taskType)) {
+            return false;
+        }
+
+        // Developer/Tester can only create subtasks under their assigned stories
+        if (taskType == TaskType.SUBTASK && parentTask != null &&
+            (user.getRole() == UserRole.DEVELOPER || user.getRole() == UserRole.TESTER)) {
+            return isAssignee(user, parentTask) && parentTask.getTaskType() == TaskType.STORY;
+        }
+
+        return true;
+    }
+
+    public List<Task> filter(User user, Collection<Task> tasks, TaskAction action) {
+        return filter(user, tasks, Function.identity(), action);
+    }
+
+    // For lists of DTOs or wrappers that carry their task
+    public <T> List<T> filter(User user, Collection<T> items, Function<T, Task> taskOf, TaskAction action) {
+        return items.stream()
+                .filter(item -> isAllowed(user, taskOf.apply(item), action))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isAdminOrManager(User user) {
+        return user.getRole() == UserRole.ADMIN || user.getRole() == UserRole.MANAGER;
+    }
+
+    private static boolean isReporter(User user, Task task) {
+        return task.getReporter() != null && task.getReporter().getId().equals(user.getId());
+    }
+
+    private static boolean isAssignee(User user, Task task) {
+        return task.getAssignee() != null && task.getAssignee().getId().equals(user.getId());
+    }
+}
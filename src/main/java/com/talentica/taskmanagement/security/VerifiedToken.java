@@ -0,0 +1,25 @@
+package com.talentica.taskmanagement.security;
+
+// Result of a successful signature and expiry check; only what the filter needs from the claims
+public class VerifiedToken {
+
+    private final String subject;
+    private final long expiresAt;
+
+    public VerifiedToken(String subject, long expiresAt) {
+        this.subject = subject;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
@@ -0,0 +1,17 @@
+package com.talentica.taskmanagement.service;
+
+import com.talentica.taskmanagement.dto.response.BurndownPoint;
+import com.talentica.taskmanagement.dto.response.FlowMetricsResponse;
+import com.talentica.taskmanagement.dto.response.ThroughputPoint;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AnalyticsService {
+
+    List<BurndownPoint> getBurndown(Long epicId, Long assigneeId, LocalDate from, LocalDate to);
+
+    FlowMetricsResponse getFlowMetrics(Long epicId, Long assigneeId, LocalDate from, LocalDate to);
+
+    List<ThroughputPoint> getThroughput(Long epicId, Long assigneeId, LocalDate from, LocalDate to);
+}
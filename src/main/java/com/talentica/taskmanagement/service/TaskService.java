@@ -3,21 +3,50 @@ package com.talentica.taskmanagement.service;
 import com.talentica.taskmanagement.dto.request.TaskCreateRequest;
 import com.talentica.taskmanagement.dto.request.TaskStatusTransitionRequest;
 import com.talentica.taskmanagement.dto.request.TaskUpdateRequest;
+import com.talentica.taskmanagement.dto.response.BulkOperationResponse;
+import com.talentica.taskmanagement.dto.response.CursorPageResponse;
+import com.talentica.taskmanagement.dto.response.PageResponse;
+import com.talentica.taskmanagement.dto.response.TaskChangesResponse;
 import com.talentica.taskmanagement.dto.response.TaskResponse;
+import com.talentica.taskmanagement.dto.response.TaskStatusChangeResponse;
+import com.talentica.taskmanagement.dto.response.TaskSummaryResponse;
 import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskExportFormat;
+import com.talentica.taskmanagement.enums.TaskPageOrder;
 import com.talentica.taskmanagement.enums.TaskStatus;
 import com.talentica.taskmanagement.enums.TaskType;
+import com.talentica.taskmanagement.repository.TaskFilter;
+import com.talentica.taskmanagement.repository.VersionStamp;
 
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface TaskService {
 
     TaskResponse createTask(TaskCreateRequest request, User reporter);
 
+    BulkOperationResponse bulkCreateTasks(List<TaskCreateRequest> requests, User reporter);
+
     TaskResponse getTaskById(Long id);
 
+    TaskResponse getTaskTree(Long id, int depth);
+
+    VersionStamp getTaskStamp(Long id);
+
+    VersionStamp getTaskStampForUser(User user);
+
+    TaskChangesResponse getTaskChanges(String since, Integer limit);
+
     List<TaskResponse> getAllTasks();
 
+    CursorPageResponse<TaskResponse> getTaskPage(TaskFilter filter, String cursor, Integer limit, TaskPageOrder order);
+
+    List<TaskStatusChangeResponse> getTaskHistory(Long id, LocalDateTime from, LocalDateTime to);
+
+    CursorPageResponse<TaskStatusChangeResponse> getStatusHistory(LocalDateTime from, LocalDateTime to, String cursor,
+                                                                  Integer limit);
+
     List<TaskResponse> getTasksByAssignee(Long assigneeId);
 
     List<TaskResponse> getTasksByReporter(Long reporterId);
@@ -30,16 +59,30 @@ public interface TaskService {
 
     TaskResponse updateTask(Long id, TaskUpdateRequest request, User currentUser);
 
+    TaskResponse updateTask(Long id, TaskUpdateRequest request, User currentUser, Long expectedVersion);
+
     TaskResponse transitionTaskStatus(Long id, TaskStatusTransitionRequest request, User currentUser);
 
+    TaskResponse transitionTaskStatus(Long id, TaskStatusTransitionRequest request, User currentUser, Long expectedVersion);
+
     TaskResponse assignTask(Long taskId, Long assigneeId, User currentUser);
 
+    BulkOperationResponse bulkTransitionTasks(List<Long> taskIds, TaskStatus targetStatus, User currentUser);
+
+    BulkOperationResponse bulkAssignTasks(List<Long> taskIds, Long assigneeId, User currentUser);
+
     void deleteTask(Long id, User currentUser);
 
-    List<TaskResponse> searchTasks(String searchTerm);
+    PageResponse<TaskResponse> searchTasks(String searchTerm, int page, int size);
 
     List<TaskResponse> getTasksForUser(User user);
 
+    List<TaskSummaryResponse> getTaskSummaries(TaskStatus status, TaskType taskType);
+
+    List<TaskSummaryResponse> getTaskSummariesForUser(User user);
+
+    long exportTasks(TaskFilter filter, TaskExportFormat format, OutputStream out);
+
     boolean canUserCreateTaskType(User user, TaskType taskType, Long parentTaskId);
 
     boolean canUserEditTask(User user, Long taskId);
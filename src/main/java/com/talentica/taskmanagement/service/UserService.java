@@ -2,9 +2,12 @@ package com.talentica.taskmanagement.service;
 
 import com.talentica.taskmanagement.dto.request.UserRegistrationRequest;
 import com.talentica.taskmanagement.dto.response.UserResponse;
+import com.talentica.taskmanagement.dto.response.WorkloadResponse;
 import com.talentica.taskmanagement.entity.User;
 import com.talentica.taskmanagement.enums.UserRole;
+import com.talentica.taskmanagement.repository.VersionStamp;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface UserService {
@@ -13,6 +16,8 @@ public interface UserService {
 
     UserResponse getUserById(Long id);
 
+    VersionStamp getUserStamp(Long id);
+
     UserResponse getUserByUsername(String username);
 
     List<UserResponse> getAllUsers();
@@ -33,5 +38,11 @@ public interface UserService {
 
     User findUserEntityByUsername(String username);
 
-    List<UserResponse> searchUsers(String searchTerm);
+    List<User> findUserEntitiesByIds(Collection<Long> ids);
+
+    List<UserResponse> searchUsers(String searchTerm, Integer limit);
+
+    WorkloadResponse getUserWorkload(Long id);
+
+    List<WorkloadResponse> getTeamWorkload();
 }
\ No newline at end of file
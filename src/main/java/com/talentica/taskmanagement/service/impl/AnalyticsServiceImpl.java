@@ -0,0 +1,167 @@
+package com.talentica.taskmanagement.service.impl;
+
+import com.talentica.taskmanagement.analytics.FlowHistogram;
+import com.talentica.taskmanagement.dto.response.BurndownPoint;
+import com.talentica.taskmanagement.dto.response.DurationPercentiles;
+import com.talentica.taskmanagement.dto.response.FlowMetricsResponse;
+import com.talentica.taskmanagement.dto.response.ThroughputPoint;
+import com.talentica.taskmanagement.enums.FlowMetric;
+import com.talentica.taskmanagement.enums.TaskStatus;
+import com.talentica.taskmanagement.exception.InvalidDateRangeException;
+import com.talentica.taskmanagement.repository.FlowTotal;
+import com.talentica.taskmanagement.repository.TaskFlowBucketRepository;
+import com.talentica.taskmanagement.service.AnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Every answer is built from task_flow_daily sums (one grouped query per call), never from tasks or history,
+// so its cost depends on the number of days asked for rather than on the number of tasks behind them.
+@Service
+@Transactional(readOnly = true)
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int DEFAULT_RANGE_WEEKS = 12;
+    private static final int MAX_RANGE_DAYS = 732;
+    // Opening balance for burndown: everything bucketed before the requested range
+    private static final LocalDate BEGINNING = LocalDate.of(1970, 1, 1);
+
+    @Autowired
+    private TaskFlowBucketRepository bucketRepository;
+
+    @Override
+    public List<BurndownPoint> getBurndown(Long epicId, Long assigneeId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        validateRange(start, end);
+
+        // Deleted open tasks (REMOVED) only lower the remaining points; day totals are indexed by metric ordinal
+        List<FlowTotal> days = bucketRepository.sumByDay(Arrays.asList(FlowMetric.CREATED, FlowMetric.COMPLETED,
+                FlowMetric.REMOVED), BEGINNING, end, epicId, assigneeId);
+        long remaining = 0;
+        Map<LocalDate, long[]> inRange = new HashMap<>();
+        for (FlowTotal day : days) {
+            long points = day.getMetric() == FlowMetric.CREATED ? day.getTotal() : -day.getTotal();
+            if (day.getBucketDate().isBefore(start)) {
+                remaining += points;
+            } else {
+                long[] totals = inRange.computeIfAbsent(day.getBucketDate(), date -> new long[3]);
+                totals[day.getMetric().ordinal()] += day.getTotal();
+            }
+        }
+
+        List<BurndownPoint> points = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            long[] totals = inRange.getOrDefault(date, new long[3]);
+            remaining += totals[0] - totals[1] - totals[2];
+            points.add(new BurndownPoint(date, totals[0], totals[1], remaining));
+        }
+        return points;
+    }
+
+    @Override
+    public FlowMetricsResponse getFlowMetrics(Long epicId, Long assigneeId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        validateRange(start, end);
+
+        List<FlowTotal> bins = bucketRepository.sumByBin(Arrays.asList(FlowMetric.COMPLETED, FlowMetric.DWELL,
+                FlowMetric.LEAD_TIME, FlowMetric.CYCLE_TIME), start, end, epicId, assigneeId);
+        long completedTasks = 0;
+        long completedPoints = 0;
+        Map<TaskStatus, Double> dwell = new EnumMap<>(TaskStatus.class);
+        List<FlowTotal> leadTimes = new ArrayList<>();
+        List<FlowTotal> cycleTimes = new ArrayList<>();
+        for (FlowTotal bin : bins) {
+            switch (bin.getMetric()) {
+                case COMPLETED:
+                    completedTasks += bin.getSamples();
+                    completedPoints += bin.getTotal();
+                    break;
+                case DWELL:
+                    dwell.put(TaskStatus.values()[bin.getBin()], hours(bin.getTotal(), bin.getSamples()));
+                    break;
+                case LEAD_TIME:
+                    leadTimes.add(bin);
+                    break;
+                case CYCLE_TIME:
+                    cycleTimes.add(bin);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return new FlowMetricsResponse(start, end, completedTasks, completedPoints, dwell,
+                percentiles(leadTimes), percentiles(cycleTimes));
+    }
+
+    @Override
+    public List<ThroughputPoint> getThroughput(Long epicId, Long assigneeId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate firstWeek = (from != null ? from : end.minusWeeks(DEFAULT_RANGE_WEEKS - 1))
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        validateRange(firstWeek, end);
+
+        List<FlowTotal> days = bucketRepository.sumByDay(Collections.singletonList(FlowMetric.COMPLETED),
+                firstWeek, end, epicId, assigneeId);
+        Map<LocalDate, long[]> weeks = new HashMap<>();
+        for (FlowTotal day : days) {
+            LocalDate week = day.getBucketDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            long[] totals = weeks.computeIfAbsent(week, date -> new long[2]);
+            totals[0] += day.getSamples();
+            totals[1] += day.getTotal();
+        }
+
+        List<ThroughputPoint> points = new ArrayList<>();
+        for (LocalDate week = firstWeek; !week.isAfter(end); week = week.plusWeeks(1)) {
+            long[] totals = weeks.getOrDefault(week, new long[2]);
+            points.add(new ThroughputPoint(week, totals[0], totals[1]));
+        }
+        return points;
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidDateRangeException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new InvalidDateRangeException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+    }
+
+    private static DurationPercentiles percentiles(List<FlowTotal> bins) {
+        long[] counts = new long[FlowHistogram.BINS];
+        long samples = 0;
+        long seconds = 0;
+        for (FlowTotal bin : bins) {
+            counts[bin.getBin()] += bin.getSamples();
+            samples += bin.getSamples();
+            seconds += bin.getTotal();
+        }
+        if (samples == 0) {
+            return new DurationPercentiles(0, null, null, null, null);
+        }
+        return new DurationPercentiles(samples, hours(seconds, samples),
+                FlowHistogram.percentileHours(counts, 0.50),
+                FlowHistogram.percentileHours(counts, 0.85),
+                FlowHistogram.percentileHours(counts, 0.95));
+    }
+
+    // Average in hours, to two decimals
+    private static double hours(long seconds, long samples) {
+        return Math.round(seconds * 100.0 / samples / 3600) / 100.0;
+    }
+}
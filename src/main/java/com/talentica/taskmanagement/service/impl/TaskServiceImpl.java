@@ -1,59 +1,138 @@
 package com.talentica.taskmanagement.service.impl;
 
 import com.talentica.taskmanagement.dto.request.TaskCreateRequest;
+import com.talentica.taskmanagement.dto.response.BulkItemResult;
+import com.talentica.taskmanagement.dto.response.BulkOperationResponse;
 import com.talentica.taskmanagement.dto.request.TaskStatusTransitionRequest;
 import com.talentica.taskmanagement.dto.request.TaskUpdateRequest;
+import com.talentica.taskmanagement.dto.response.CursorPageResponse;
+import com.talentica.taskmanagement.dto.response.PageResponse;
+import com.talentica.taskmanagement.dto.response.TaskChangesResponse;
 import com.talentica.taskmanagement.dto.response.TaskResponse;
+import com.talentica.taskmanagement.dto.response.TaskStatusChangeResponse;
+import com.talentica.taskmanagement.dto.response.TaskSummaryResponse;
 import com.talentica.taskmanagement.dto.response.UserResponse;
 import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.entity.TaskStatusChange;
+import com.talentica.taskmanagement.entity.TaskTombstone;
 import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskAction;
+import com.talentica.taskmanagement.enums.TaskChangeType;
+import com.talentica.taskmanagement.enums.TaskExportFormat;
+import com.talentica.taskmanagement.enums.TaskPageOrder;
 import com.talentica.taskmanagement.enums.TaskStatus;
 import com.talentica.taskmanagement.enums.TaskType;
-import com.talentica.taskmanagement.enums.UserRole;
+import com.talentica.taskmanagement.event.TaskChangedEvent;
+import com.talentica.taskmanagement.exception.ConcurrentUpdateException;
+import com.talentica.taskmanagement.exception.InvalidDateRangeException;
 import com.talentica.taskmanagement.exception.InvalidWorkflowTransitionException;
+import com.talentica.taskmanagement.exception.PreconditionFailedException;
 import com.talentica.taskmanagement.exception.ResourceNotFoundException;
 import com.talentica.taskmanagement.exception.UnauthorizedException;
+import com.talentica.taskmanagement.export.TaskExportWriter;
+import com.talentica.taskmanagement.pagination.ChangeWatermark;
+import com.talentica.taskmanagement.pagination.HistoryCursor;
+import com.talentica.taskmanagement.pagination.TaskCursor;
+import com.talentica.taskmanagement.repository.TaskFilter;
+import com.talentica.taskmanagement.repository.TaskLineage;
 import com.talentica.taskmanagement.repository.TaskRepository;
+import com.talentica.taskmanagement.repository.TaskStatusChangeRepository;
+import com.talentica.taskmanagement.repository.TaskTombstoneRepository;
+import com.talentica.taskmanagement.repository.VersionStamp;
+import com.talentica.taskmanagement.search.TaskSearchEngine;
+import com.talentica.taskmanagement.search.TaskSearchHit;
+import com.talentica.taskmanagement.search.TaskSearchResult;
+import com.talentica.taskmanagement.security.TaskAuthorizationPolicy;
 import com.talentica.taskmanagement.service.TaskService;
 import com.talentica.taskmanagement.service.UserService;
+import com.talentica.taskmanagement.workload.WorkloadCounters;
+import com.talentica.taskmanagement.workload.WorkloadDelta;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class TaskServiceImpl implements TaskService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    // Keeps the child-count IN list well under the driver's bind parameter limit on unfiltered lists
+    private static final int SUBTASK_COUNT_BATCH = 1000;
+
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TaskStatusChangeRepository statusChangeRepository;
+
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private TaskSearchEngine taskSearchEngine;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TaskAuthorizationPolicy authorizationPolicy;
+
+    @Autowired
+    private TaskExportWriter taskExportWriter;
+
+    @Autowired
+    private WorkloadCounters workloadCounters;
+
+    @Value("${tasks.changes.settle-ms:1000}")
+    private long changesSettleMillis;
+
+    @Value("${tasks.export.fetch-size:1000}")
+    private int exportFetchSize;
+
     @Override
     public TaskResponse createTask(TaskCreateRequest request, User reporter) {
+        Task parentTask = request.getParentTaskId() != null ? findTaskEntityById(request.getParentTaskId()) : null;
+
         // Validate if user can create this task type
-        if (!canUserCreateTaskType(reporter, request.getTaskType(), request.getParentTaskId())) {
+        if (!authorizationPolicy.canCreate(reporter, request.getTaskType(), parentTask)) {
             throw new UnauthorizedException("User is not authorized to create " + request.getTaskType().getDisplayName());
         }
 
-        Task task = new Task();
-        task.setTitle(request.getTitle());
-        task.setDescription(request.getDescription());
-        task.setTaskType(request.getTaskType());
-        task.setReporter(reporter);
-        task.setStoryPoints(request.getStoryPoints());
-        task.setEstimatedHours(request.getEstimatedHours());
-        task.setDueDate(request.getDueDate());
-
-        // Handle parent task for subtasks
-        if (request.getParentTaskId() != null) {
-            Task parentTask = findTaskEntityById(request.getParentTaskId());
-            task.setParentTask(parentTask);
-        }
+        Task task = newTask(request, reporter);
+        task.setParentTask(parentTask);
 
         // Handle assignee
         if (request.getAssigneeId() != null) {
@@ -62,9 +141,66 @@ public class TaskServiceImpl implements TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
+        workloadCounters.apply(new WorkloadDelta().added(savedTask));
+        statusChangeRepository.save(TaskStatusChange.of(savedTask, null, reporter.getId(),
+                toEpochMillis(savedTask.getCreatedAt())));
+        eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.CREATED, savedTask));
         return mapToTaskResponse(savedTask);
     }
 
+    @Override
+    public BulkOperationResponse bulkCreateTasks(List<TaskCreateRequest> requests, User reporter) {
+        // One query each for every referenced parent and assignee instead of one per item
+        Map<Long, Task> parentTasks = taskRepository.findAllById(collectIds(requests, TaskCreateRequest::getParentTaskId))
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Map<Long, User> assignees = userService.findUserEntitiesByIds(collectIds(requests, TaskCreateRequest::getAssigneeId))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<BulkItemResult> results = new ArrayList<>(requests.size());
+        List<BulkItemResult> created = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            TaskCreateRequest request = requests.get(i);
+            String error = validateBulkCreate(request, reporter, parentTasks, assignees);
+            if (error != null) {
+                results.add(BulkItemResult.failed(i, null, error));
+                continue;
+            }
+
+            Task task = newTask(request, reporter);
+            if (request.getParentTaskId() != null) {
+                task.setParentTask(parentTasks.get(request.getParentTaskId()));
+            }
+            if (request.getAssigneeId() != null) {
+                task.setAssignee(assignees.get(request.getAssigneeId()));
+            }
+            tasks.add(task);
+
+            BulkItemResult result = BulkItemResult.succeeded(i, null);
+            results.add(result);
+            created.add(result);
+        }
+
+        // Sequence ids are allocated in blocks, so these inserts are flushed as JDBC batches
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        WorkloadDelta workload = new WorkloadDelta();
+        List<TaskStatusChange> changes = new ArrayList<>(savedTasks.size());
+        for (int i = 0; i < savedTasks.size(); i++) {
+            Task savedTask = savedTasks.get(i);
+            created.get(i).setTaskId(savedTask.getId());
+            workload.added(savedTask);
+            changes.add(TaskStatusChange.of(savedTask, null, reporter.getId(), toEpochMillis(savedTask.getCreatedAt())));
+            eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.CREATED, savedTask));
+        }
+        workloadCounters.apply(workload);
+        statusChangeRepository.saveAll(changes);
+
+        return new BulkOperationResponse(results);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public TaskResponse getTaskById(Long id) {
@@ -72,70 +208,211 @@ public class TaskServiceImpl implements TaskService {
         return mapToTaskResponse(task);
     }
 
+    // Three statements for any tree size: the recursive id walk, the nodes with their users and parent in one fetch,
+    // and the child counts. Children are hung under their parents through a map, so nothing touches the lazy
+    // subtasks collections.
+    @Override
+    @Transactional(readOnly = true)
+    public TaskResponse getTaskTree(Long id, int depth) {
+        List<Long> ids = taskRepository.findSubtreeIds(id, depth).stream()
+                .map(Number::longValue)
+                .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            throw new ResourceNotFoundException("Task not found with id: " + id);
+        }
+
+        List<Task> tasks = new ArrayList<>(taskRepository.findAllById(ids));
+        tasks.sort(Comparator.comparing(Task::getId));
+        Map<Long, Integer> subtaskCounts = countSubtasks(ids);
+        Map<Long, TaskResponse> responses = new HashMap<>();
+        for (Task task : tasks) {
+            responses.put(task.getId(), mapToTaskListItem(task, subtaskCounts));
+        }
+        for (Task task : tasks) {
+            if (task.getId().equals(id)) {
+                continue;
+            }
+            TaskResponse parent = responses.get(task.getParentTask().getId());
+            if (parent.getSubtasks() == null) {
+                parent.setSubtasks(new ArrayList<>());
+            }
+            parent.getSubtasks().add(responses.get(task.getId()));
+        }
+        return responses.get(id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionStamp getTaskStamp(Long id) {
+        Object[] row = taskRepository.findTreeStamp(id).get(0);
+        VersionStamp stamp = new VersionStamp((Number) row[0], (Number) row[1], (Number) row[2], (Number) row[3],
+                row[4] != null ? ((Timestamp) row[4]).toLocalDateTime() : null);
+        if (stamp.isEmpty()) {
+            throw new ResourceNotFoundException("Task not found with id: " + id);
+        }
+        return stamp;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public VersionStamp getTaskStampForUser(User user) {
+        return taskRepository.findStampForUser(user.getId());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<TaskResponse> getAllTasks() {
-        return taskRepository.findAll()
-                .stream()
-                .map(this::mapToTaskResponse)
+        return mapToTaskListItems(taskRepository.findAll());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskResponse> getTaskPage(TaskFilter filter, String cursor, Integer limit, TaskPageOrder order) {
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+
+        TaskCursor after = cursor != null ? TaskCursor.decode(cursor, order) : null;
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        List<Task> tasks = taskRepository.findPage(filter, after, order, pageSize + 1);
+        boolean hasMore = tasks.size() > pageSize;
+        if (hasMore) {
+            tasks = tasks.subList(0, pageSize);
+        }
+
+        List<TaskResponse> items = mapToTaskListItems(tasks);
+        String nextCursor = hasMore ? TaskCursor.after(tasks.get(tasks.size() - 1), order).encode() : null;
+        return new CursorPageResponse<>(items, nextCursor, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskStatusChangeResponse> getTaskHistory(Long id, LocalDateTime from, LocalDateTime to) {
+        long start = from != null ? toEpochMillis(from) : 0L;
+        long end = to != null ? toEpochMillis(to) : Long.MAX_VALUE;
+        if (start >= end) {
+            throw new InvalidDateRangeException("from must be before to");
+        }
+
+        // History outlives the task, so only report a missing task when there is nothing to show
+        List<TaskStatusChange> changes = statusChangeRepository.findByTask(id, start, end);
+        if (changes.isEmpty() && !taskRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Task not found with id: " + id);
+        }
+        return changes.stream()
+                .map(this::mapToStatusChangeResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskStatusChangeResponse> getStatusHistory(LocalDateTime from, LocalDateTime to,
+                                                                         String cursor, Integer limit) {
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        long start = toEpochMillis(from);
+        long end = to != null ? toEpochMillis(to) : System.currentTimeMillis();
+        if (start >= end) {
+            throw new InvalidDateRangeException("from must be before to");
+        }
+
+        // A first page starts just before the range, so the keyset condition admits its first row
+        HistoryCursor after = cursor != null ? HistoryCursor.decode(cursor) : null;
+        List<TaskStatusChange> changes = statusChangeRepository.findPage(start, end,
+                after != null ? after.getChangedAt() : start - 1, after != null ? after.getId() : Long.MAX_VALUE,
+                PageRequest.of(0, pageSize + 1));
+        boolean hasMore = changes.size() > pageSize;
+        if (hasMore) {
+            changes = changes.subList(0, pageSize);
+        }
+
+        List<TaskStatusChangeResponse> items = changes.stream()
+                .map(this::mapToStatusChangeResponse)
                 .collect(Collectors.toList());
+        String nextCursor = hasMore ? HistoryCursor.after(changes.get(changes.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(items, nextCursor, hasMore);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskResponse> getTasksByAssignee(Long assigneeId) {
         User assignee = userService.findUserEntityById(assigneeId);
-        return taskRepository.findByAssignee(assignee)
-                .stream()
-                .map(this::mapToTaskResponse)
-                .collect(Collectors.toList());
+        return mapToTaskListItems(taskRepository.findByAssignee(assignee));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskResponse> getTasksByReporter(Long reporterId) {
         User reporter = userService.findUserEntityById(reporterId);
-        return taskRepository.findByReporter(reporter)
-                .stream()
-                .map(this::mapToTaskResponse)
-                .collect(Collectors.toList());
+        return mapToTaskListItems(taskRepository.findByReporter(reporter));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskResponse> getTasksByStatus(TaskStatus status) {
-        return taskRepository.findByTaskStatus(status)
-                .stream()
-                .map(this::mapToTaskResponse)
-                .collect(Collectors.toList());
+        return mapToTaskListItems(taskRepository.findByTaskStatus(status));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskResponse> getTasksByType(TaskType taskType) {
-        return taskRepository.findByTaskType(taskType)
-                .stream()
-                .map(this::mapToTaskResponse)
-                .collect(Collectors.toList());
+        return mapToTaskListItems(taskRepository.findByTaskType(taskType));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskResponse> getSubtasks(Long parentTaskId) {
         Task parentTask = findTaskEntityById(parentTaskId);
-        return taskRepository.findByParentTask(parentTask)
-                .stream()
-                .map(this::mapToTaskResponse)
+        return mapToTaskListItems(taskRepository.findByParentTask(parentTask));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskChangesResponse getTaskChanges(String since, Integer limit) {
+        int pageSize = limit != null ? limit : MAX_PAGE_SIZE;
+
+        ChangeWatermark watermark = since != null ? ChangeWatermark.decode(since) : ChangeWatermark.origin();
+        // Rows stamped after the cutoff may still be joined by transactions committing out of order, so they
+        // wait for the next poll instead of being skipped by an advanced watermark
+        LocalDateTime until = LocalDateTime.now().minus(Duration.ofMillis(changesSettleMillis));
+        Pageable page = PageRequest.of(0, pageSize + 1);
+
+        List<Task> tasks = taskRepository.findChangedSince(watermark.getUpdatedAt(), watermark.getTaskId(), until, page);
+        List<TaskTombstone> tombstones = tombstoneRepository.findDeletedAfter(watermark.getTombstoneId(), until, page);
+        boolean hasMore = tasks.size() > pageSize || tombstones.size() > pageSize;
+        if (tasks.size() > pageSize) {
+            tasks = tasks.subList(0, pageSize);
+        }
+        if (tombstones.size() > pageSize) {
+            tombstones = tombstones.subList(0, pageSize);
+        }
+        if (!tasks.isEmpty()) {
+            watermark = watermark.afterTask(tasks.get(tasks.size() - 1));
+        }
+        if (!tombstones.isEmpty()) {
+            watermark = watermark.afterTombstone(tombstones.get(tombstones.size() - 1));
+        }
+
+        // Flat: changed subtasks arrive as rows of their own
+        List<TaskResponse> changed = mapToTaskListItems(tasks);
+        List<Long> deletedIds = tombstones.stream()
+                .map(TaskTombstone::getTaskId)
                 .collect(Collectors.toList());
+        return new TaskChangesResponse(changed, deletedIds, watermark.encode(), hasMore);
     }
 
     @Override
     public TaskResponse updateTask(Long id, TaskUpdateRequest request, User currentUser) {
+        return updateTask(id, request, currentUser, null);
+    }
+
+    @Override
+    public TaskResponse updateTask(Long id, TaskUpdateRequest request, User currentUser, Long expectedVersion) {
         Task task = findTaskEntityById(id);
 
-        if (!canUserEditTask(currentUser, id)) {
+        if (!authorizationPolicy.isAllowed(currentUser, task, TaskAction.EDIT)) {
             throw new UnauthorizedException("User is not authorized to edit this task");
         }
+        checkExpectedVersion(task, expectedVersion);
+        User previousAssignee = task.getAssignee();
 
         if (request.getTitle() != null) {
             task.setTitle(request.getTitle());
@@ -160,29 +437,70 @@ public class TaskServiceImpl implements TaskService {
             task.setAssignee(assignee);
         }
 
-        Task updatedTask = taskRepository.save(task);
+        // Flush now so a lost version race surfaces here and the response carries the new version
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        workloadCounters.apply(new WorkloadDelta().reassigned(updatedTask.getTaskStatus(), previousAssignee, updatedTask.getAssignee()));
+        eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.UPDATED, updatedTask, previousAssignee));
         return mapToTaskResponse(updatedTask);
     }
 
     @Override
     public TaskResponse transitionTaskStatus(Long id, TaskStatusTransitionRequest request, User currentUser) {
+        return transitionTaskStatus(id, request, currentUser, null);
+    }
+
+    @Override
+    public TaskResponse transitionTaskStatus(Long id, TaskStatusTransitionRequest request, User currentUser,
+                                             Long expectedVersion) {
         Task task = findTaskEntityById(id);
+        TaskStatus fromStatus = task.getTaskStatus();
+        TaskStatus targetStatus = request.getTargetStatus();
 
-        if (!canUserTransitionTask(currentUser, id)) {
+        if (!authorizationPolicy.isAllowed(currentUser, task, TaskAction.TRANSITION)) {
             throw new UnauthorizedException("User is not authorized to transition this task");
         }
+        checkExpectedVersion(task, expectedVersion);
 
-        if (!task.canTransitionTo(request.getTargetStatus())) {
+        if (!task.canTransitionTo(targetStatus)) {
             throw new InvalidWorkflowTransitionException(
                     String.format("Cannot transition task from %s to %s", 
-                            task.getTaskStatus().getDisplayName(), 
-                            request.getTargetStatus().getDisplayName())
+                            fromStatus.getDisplayName(),
+                            targetStatus.getDisplayName())
             );
         }
 
-        task.transitionTo(request.getTargetStatus());
-        Task updatedTask = taskRepository.save(task);
-        return mapToTaskResponse(updatedTask);
+        // Map while the entity is still managed; the conditional UPDATE below detaches it
+        TaskResponse response = mapToTaskResponse(task);
+
+        // Compare-and-set on the version we validated against: any concurrent change makes this match no row
+        LocalDateTime now = LocalDateTime.now();
+        int updated = targetStatus == TaskStatus.DONE
+                ? taskRepository.complete(id, task.getVersion(), now)
+                : taskRepository.updateStatus(id, targetStatus, task.getVersion(), now);
+        if (updated == 0) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException(
+                        String.format("Task %d was changed by another request after version %d", id, expectedVersion));
+            }
+            throw new ConcurrentUpdateException(
+                    String.format("Task %d was changed by another request", id));
+        }
+
+        task.setTaskStatus(targetStatus);
+        task.setUpdatedAt(now);
+        if (targetStatus == TaskStatus.DONE && task.getCompletedAt() == null) {
+            task.setCompletedAt(now);
+        }
+        task.setVersion(task.getVersion() == null ? null : task.getVersion() + 1);
+        workloadCounters.apply(new WorkloadDelta().transitioned(task.getAssignee(), fromStatus, targetStatus));
+        statusChangeRepository.save(TaskStatusChange.of(task, fromStatus, currentUser.getId(), toEpochMillis(now)));
+        eventPublisher.publishEvent(TaskChangedEvent.transitioned(task, fromStatus));
+
+        response.setTaskStatus(task.getTaskStatus());
+        response.setUpdatedAt(task.getUpdatedAt());
+        response.setCompletedAt(task.getCompletedAt());
+        response.setVersion(task.getVersion());
+        return response;
     }
 
     @Override
@@ -190,121 +508,323 @@ public class TaskServiceImpl implements TaskService {
         Task task = findTaskEntityById(taskId);
         User assignee = userService.findUserEntityById(assigneeId);
 
-        // Only admin, manager, or task reporter can assign tasks
-        if (currentUser.getRole() != UserRole.ADMIN && 
-            currentUser.getRole() != UserRole.MANAGER && 
-            !task.getReporter().getId().equals(currentUser.getId())) {
+        if (!authorizationPolicy.isAllowed(currentUser, task, TaskAction.ASSIGN)) {
             throw new UnauthorizedException("User is not authorized to assign this task");
         }
 
+        User previousAssignee = task.getAssignee();
         task.setAssignee(assignee);
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        workloadCounters.apply(new WorkloadDelta().reassigned(updatedTask.getTaskStatus(), previousAssignee, assignee));
+        eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.ASSIGNED, updatedTask, previousAssignee));
         return mapToTaskResponse(updatedTask);
     }
 
+    @Override
+    public BulkOperationResponse bulkTransitionTasks(List<Long> taskIds, TaskStatus targetStatus, User currentUser) {
+        Map<Long, Task> tasks = loadTasksById(taskIds);
+        BulkItemResult[] results = new BulkItemResult[taskIds.size()];
+        Map<TaskStatus, Map<Long, Integer>> pendingByStatus = new EnumMap<>(TaskStatus.class);
+
+        // Validate everything in memory, grouping the valid items by their current status
+        for (int i = 0; i < taskIds.size(); i++) {
+            Long taskId = taskIds.get(i);
+            Task task = tasks.get(taskId);
+            String error = null;
+            if (task == null) {
+                error = "Task not found with id: " + taskId;
+            } else if (isDuplicate(pendingByStatus, taskId)) {
+                error = "Duplicate task id: " + taskId;
+            } else if (!authorizationPolicy.isAllowed(currentUser, task, TaskAction.TRANSITION)) {
+                error = "User is not authorized to transition this task";
+            } else if (!task.canTransitionTo(targetStatus)) {
+                error = String.format("Cannot transition task from %s to %s",
+                        task.getTaskStatus().getDisplayName(), targetStatus.getDisplayName());
+            }
+
+            if (error != null) {
+                results[i] = BulkItemResult.failed(i, taskId, error);
+            } else {
+                pendingByStatus.computeIfAbsent(task.getTaskStatus(), status -> new LinkedHashMap<>()).put(taskId, i);
+            }
+        }
+
+        Map<Long, Long> currentVersions = lockCurrentVersions(pendingByStatus.values().stream()
+                .flatMap(group -> group.keySet().stream())
+                .collect(Collectors.toList()));
+
+        // At most one UPDATE per source status, over the locked rows still at the version that was validated
+        LocalDateTime now = LocalDateTime.now();
+        WorkloadDelta workload = new WorkloadDelta();
+        List<TaskStatusChange> changes = new ArrayList<>();
+        for (Map.Entry<TaskStatus, Map<Long, Integer>> group : pendingByStatus.entrySet()) {
+            Set<Long> ids = unchangedIds(group.getValue(), tasks, currentVersions, results);
+            if (ids.isEmpty()) {
+                continue;
+            }
+            int updated = targetStatus == TaskStatus.DONE
+                    ? taskRepository.bulkComplete(ids, group.getKey(), now)
+                    : taskRepository.bulkUpdateStatus(ids, group.getKey(), targetStatus, now);
+            checkUpdatedCount(ids, updated);
+
+            for (Long taskId : ids) {
+                int index = group.getValue().get(taskId);
+                results[index] = BulkItemResult.succeeded(index, taskId);
+                // The entity is detached by the bulk UPDATE; patch it only to build the event snapshot
+                Task task = tasks.get(taskId);
+                task.setTaskStatus(targetStatus);
+                task.setUpdatedAt(now);
+                task.setVersion(task.getVersion() == null ? null : task.getVersion() + 1);
+                workload.transitioned(task.getAssignee(), group.getKey(), targetStatus);
+                changes.add(TaskStatusChange.of(task, group.getKey(), currentUser.getId(), toEpochMillis(now)));
+                eventPublisher.publishEvent(TaskChangedEvent.transitioned(task, group.getKey()));
+            }
+        }
+        workloadCounters.apply(workload);
+        statusChangeRepository.saveAll(changes);
+
+        return new BulkOperationResponse(Arrays.asList(results));
+    }
+
+    @Override
+    public BulkOperationResponse bulkAssignTasks(List<Long> taskIds, Long assigneeId, User currentUser) {
+        User assignee = userService.findUserEntityById(assigneeId);
+        Map<Long, Task> tasks = loadTasksById(taskIds);
+        BulkItemResult[] results = new BulkItemResult[taskIds.size()];
+        Map<Long, Integer> pending = new LinkedHashMap<>();
+
+        for (int i = 0; i < taskIds.size(); i++) {
+            Long taskId = taskIds.get(i);
+            Task task = tasks.get(taskId);
+            if (task == null) {
+                results[i] = BulkItemResult.failed(i, taskId, "Task not found with id: " + taskId);
+            } else if (pending.containsKey(taskId)) {
+                results[i] = BulkItemResult.failed(i, taskId, "Duplicate task id: " + taskId);
+            } else if (!authorizationPolicy.isAllowed(currentUser, task, TaskAction.ASSIGN)) {
+                results[i] = BulkItemResult.failed(i, taskId, "User is not authorized to assign this task");
+            } else {
+                pending.put(taskId, i);
+            }
+        }
+
+        Set<Long> ids = pending.isEmpty()
+                ? Collections.emptySet()
+                : unchangedIds(pending, tasks, lockCurrentVersions(pending.keySet()), results);
+        if (!ids.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            checkUpdatedCount(ids, taskRepository.bulkAssign(ids, assignee, now));
+            WorkloadDelta workload = new WorkloadDelta();
+            for (Long taskId : ids) {
+                int index = pending.get(taskId);
+                results[index] = BulkItemResult.succeeded(index, taskId);
+                Task task = tasks.get(taskId);
+                User previousAssignee = task.getAssignee();
+                workload.reassigned(task.getTaskStatus(), previousAssignee, assignee);
+                task.setAssignee(assignee);
+                task.setUpdatedAt(now);
+                task.setVersion(task.getVersion() == null ? null : task.getVersion() + 1);
+                eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.ASSIGNED, task, previousAssignee));
+            }
+            workloadCounters.apply(workload);
+        }
+
+        return new BulkOperationResponse(Arrays.asList(results));
+    }
+
     @Override
     public void deleteTask(Long id, User currentUser) {
         Task task = findTaskEntityById(id);
 
-        // Only admin, manager, or task reporter can delete tasks
-        if (currentUser.getRole() != UserRole.ADMIN && 
-            currentUser.getRole() != UserRole.MANAGER && 
-            !task.getReporter().getId().equals(currentUser.getId())) {
+        if (!authorizationPolicy.isAllowed(currentUser, task, TaskAction.DELETE)) {
             throw new UnauthorizedException("User is not authorized to delete this task");
         }
 
+        // Subtasks go with the task through the cascade, so they need tombstones, counter decrements, deletion
+        // history rows and TaskDeleted events too
+        List<Task> deleted = new ArrayList<>();
+        collectDeleted(task, deleted);
+        LocalDateTime deletedAt = LocalDateTime.now();
+        List<TaskTombstone> tombstones = new ArrayList<>();
+        List<TaskStatusChange> deletions = new ArrayList<>();
+        WorkloadDelta workload = new WorkloadDelta();
+        for (Task removed : deleted) {
+            tombstones.add(new TaskTombstone(removed.getId(), deletedAt));
+            deletions.add(TaskStatusChange.deleted(removed, lineage(removed).getEpicId(), currentUser.getId(),
+                    toEpochMillis(deletedAt)));
+            workload.removed(removed);
+        }
+
+        // Flushed here so the row lock is taken before the outbox insert: inserts otherwise flush ahead of deletes,
+        // and TaskDeleted could sort before the event of a change that committed first
         taskRepository.delete(task);
+        taskRepository.flush();
+        tombstoneRepository.saveAll(tombstones);
+        statusChangeRepository.saveAll(deletions);
+        workloadCounters.apply(workload);
+        for (Task removed : deleted) {
+            eventPublisher.publishEvent(TaskChangedEvent.of(TaskChangeType.DELETED, removed));
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<TaskResponse> searchTasks(String searchTerm) {
-        return taskRepository.searchParentTasks(searchTerm)
-                .stream()
-                .map(this::mapToTaskResponse)
+    public PageResponse<TaskResponse> searchTasks(String searchTerm, int page, int size) {
+        TaskSearchResult result = taskSearchEngine.search(searchTerm, page, size);
+        List<Long> rankedIds = result.getHits().stream()
+                .map(TaskSearchHit::getTaskId)
                 .collect(Collectors.toList());
+
+        // Hydrate the page in one query, then restore the engine's ranking
+        Map<Long, Task> tasksById = taskRepository.findAllById(rankedIds)
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<TaskResponse> items = mapToTaskListItems(rankedIds.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+        return new PageResponse<>(items, page, size, result.getTotalHits());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TaskResponse> getTasksForUser(User user) {
-        return taskRepository.findTasksByUser(user)
-                .stream()
-                .map(this::mapToTaskResponse)
-                .collect(Collectors.toList());
+        return mapToTaskListItems(taskRepository.findTasksByUser(user));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public boolean canUserCreateTaskType(User user, TaskType taskType, Long parentTaskId) {
-        // Check basic role permissions
-        if (!user.getRole().canCreate(taskType)) {
-            return false;
-        }
-
-        // For subtasks, check if user can create under the parent task
-        if (taskType == TaskType.SUBTASK && parentTaskId != null) {
-            Task parentTask = findTaskEntityById(parentTaskId);
-            // Developer/Tester can only create subtasks under their assigned stories
-            if ((user.getRole() == UserRole.DEVELOPER || user.getRole() == UserRole.TESTER)) {
-                return parentTask.getAssignee() != null && 
-                       parentTask.getAssignee().getId().equals(user.getId()) &&
-                       parentTask.getTaskType() == TaskType.STORY;
-            }
+    public List<TaskSummaryResponse> getTaskSummaries(TaskStatus status, TaskType taskType) {
+        if (status != null && taskType != null) {
+            return taskRepository.findSummariesByStatusAndType(status, taskType);
         }
-
-        return true;
+        if (status != null) {
+            return taskRepository.findSummariesByStatus(status);
+        }
+        if (taskType != null) {
+            return taskRepository.findSummariesByType(taskType);
+        }
+        return taskRepository.findAllSummaries();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public boolean canUserEditTask(User user, Long taskId) {
-        Task task = findTaskEntityById(taskId);
+    public List<TaskSummaryResponse> getTaskSummariesForUser(User user) {
+        return taskRepository.findSummariesByUser(user.getId());
+    }
 
-        // Admin can edit any task
-        if (user.getRole() == UserRole.ADMIN) {
-            return true;
+    // Rows are streamed from the database cursor to the output while this read-only transaction stays open
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTasks(TaskFilter filter, TaskExportFormat format, OutputStream out) {
+        try (Stream<TaskSummaryResponse> rows = taskRepository.streamSummaries(filter, exportFetchSize)) {
+            return taskExportWriter.write(rows, format, out, exportFetchSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Task export was interrupted", e);
         }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean canUserCreateTaskType(User user, TaskType taskType, Long parentTaskId) {
+        Task parentTask = taskType == TaskType.SUBTASK && parentTaskId != null ? findTaskEntityById(parentTaskId) : null;
+        return authorizationPolicy.canCreate(user, taskType, parentTask);
+    }
 
-        // Manager can edit any task
-        if (user.getRole() == UserRole.MANAGER) {
-            return true;
+    private String validateBulkCreate(TaskCreateRequest request, User reporter,
+                                      Map<Long, Task> parentTasks, Map<Long, User> assignees) {
+        Task parentTask = null;
+        if (request.getParentTaskId() != null) {
+            parentTask = parentTasks.get(request.getParentTaskId());
+            if (parentTask == null) {
+                return "Task not found with id: " + request.getParentTaskId();
+            }
         }
 
-        // Reporter can edit their own tasks
-        if (task.getReporter().getId().equals(user.getId())) {
-            return true;
+        if (!authorizationPolicy.canCreate(reporter, request.getTaskType(), parentTask)) {
+            return "User is not authorized to create " + request.getTaskType().getDisplayName();
         }
 
-        // Assignee can edit assigned tasks
-        if (task.getAssignee() != null && task.getAssignee().getId().equals(user.getId())) {
-            return true;
+        if (request.getAssigneeId() != null && !assignees.containsKey(request.getAssigneeId())) {
+            return "User not found with id: " + request.getAssigneeId();
         }
 
-        return false;
+        return null;
+    }
+
+    private Task newTask(TaskCreateRequest request, User reporter) {
+        Task task = new Task();
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setTaskType(request.getTaskType());
+        task.setReporter(reporter);
+        task.setStoryPoints(request.getStoryPoints());
+        task.setEstimatedHours(request.getEstimatedHours());
+        task.setDueDate(request.getDueDate());
+        return task;
+    }
+
+    private static <T> List<Long> collectIds(Collection<T> items, Function<T, Long> idExtractor) {
+        return items.stream()
+                .map(idExtractor)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean canUserEditTask(User user, Long taskId) {
+        return authorizationPolicy.isAllowed(user, findTaskEntityById(taskId), TaskAction.EDIT);
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean canUserTransitionTask(User user, Long taskId) {
-        Task task = findTaskEntityById(taskId);
+        return authorizationPolicy.isAllowed(user, findTaskEntityById(taskId), TaskAction.TRANSITION);
+    }
+
+    private Map<Long, Task> loadTasksById(List<Long> taskIds) {
+        return taskRepository.findAllById(new LinkedHashSet<>(taskIds))
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
 
-        // Admin can transition any task
-        if (user.getRole() == UserRole.ADMIN) {
-            return true;
+    // Locks the rows in id order until commit and returns their current versions; rows deleted since they were
+    // loaded are missing. Another request can no longer write a locked row, so a bulk UPDATE over the rows still at
+    // their loaded version changes exactly those rows.
+    private Map<Long, Long> lockCurrentVersions(Collection<Long> ids) {
+        Map<Long, Long> versions = new HashMap<>();
+        for (Object[] row : taskRepository.lockVersions(ids)) {
+            versions.put(((Number) row[0]).longValue(), row[1] != null ? ((Number) row[1]).longValue() : null);
         }
+        return versions;
+    }
 
-        // Assignee can transition assigned tasks
-        if (task.getAssignee() != null && task.getAssignee().getId().equals(user.getId())) {
-            return true;
+    // Items whose row is still at the version they were validated against; the rest fail without being written
+    private static Set<Long> unchangedIds(Map<Long, Integer> items, Map<Long, Task> tasks,
+                                          Map<Long, Long> currentVersions, BulkItemResult[] results) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Map.Entry<Long, Integer> item : items.entrySet()) {
+            Long taskId = item.getKey();
+            if (currentVersions.containsKey(taskId)
+                    && Objects.equals(currentVersions.get(taskId), tasks.get(taskId).getVersion())) {
+                ids.add(taskId);
+            } else {
+                results[item.getValue()] = BulkItemResult.failed(item.getValue(), taskId, "Task was modified concurrently");
+            }
         }
+        return ids;
+    }
 
-        // Manager can transition any task
-        if (user.getRole() == UserRole.MANAGER) {
-            return true;
+    private static void checkUpdatedCount(Set<Long> ids, int updated) {
+        if (updated != ids.size()) {
+            throw new ConcurrentUpdateException(
+                    String.format("Expected to update %d locked tasks but updated %d", ids.size(), updated));
         }
+    }
 
-        return false;
+    private static boolean isDuplicate(Map<TaskStatus, Map<Long, Integer>> pendingByStatus, Long taskId) {
+        return pendingByStatus.values().stream().anyMatch(ids -> ids.containsKey(taskId));
     }
 
     @Override
@@ -314,12 +834,67 @@ public class TaskServiceImpl implements TaskService {
         return task.getTaskStatus().getAllowedTransitions();
     }
 
+    // Only the deleted root's parent and grandparent may need loading; its descendants' are already in the session
+    private static TaskLineage lineage(Task task) {
+        Task parent = task.getParentTask();
+        Task grandparent = parent != null ? parent.getParentTask() : null;
+        return new TaskLineage(task.getId(), task.getTaskType(),
+                parent != null ? parent.getId() : null, parent != null ? parent.getTaskType() : null,
+                grandparent != null ? grandparent.getId() : null, grandparent != null ? grandparent.getTaskType() : null);
+    }
+
+    // The task and every descendant, parents before their subtasks
+    private static void collectDeleted(Task task, List<Task> deleted) {
+        deleted.add(task);
+        if (task.getSubtasks() != null) {
+            for (Task subtask : task.getSubtasks()) {
+                collectDeleted(subtask, deleted);
+            }
+        }
+    }
+
+    private static void checkExpectedVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException(
+                    String.format("Task %d is at version %d, not %d", task.getId(), task.getVersion(), expectedVersion));
+        }
+    }
+
     private Task findTaskEntityById(Long id) {
         return taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
     }
 
     private TaskResponse mapToTaskResponse(Task task) {
+        return mapToTaskResponse(task, true);
+    }
+
+    // Lists stay flat and report subtaskCount; the nested tree is served by getTaskTree
+    private List<TaskResponse> mapToTaskListItems(List<Task> tasks) {
+        Map<Long, Integer> subtaskCounts = countSubtasks(collectIds(tasks, Task::getId));
+        return tasks.stream()
+                .map(task -> mapToTaskListItem(task, subtaskCounts))
+                .collect(Collectors.toList());
+    }
+
+    private TaskResponse mapToTaskListItem(Task task, Map<Long, Integer> subtaskCounts) {
+        TaskResponse response = mapToTaskResponse(task, false);
+        response.setSubtaskCount(subtaskCounts.getOrDefault(task.getId(), 0));
+        return response;
+    }
+
+    private Map<Long, Integer> countSubtasks(List<Long> ids) {
+        Map<Long, Integer> counts = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += SUBTASK_COUNT_BATCH) {
+            List<Long> batch = ids.subList(from, Math.min(ids.size(), from + SUBTASK_COUNT_BATCH));
+            for (Object[] row : taskRepository.countSubtasks(batch)) {
+                counts.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+            }
+        }
+        return counts;
+    }
+
+    private TaskResponse mapToTaskResponse(Task task, boolean withSubtasks) {
         TaskResponse response = new TaskResponse();
         response.setId(task.getId());
         response.setTitle(task.getTitle());
@@ -333,6 +908,7 @@ public class TaskServiceImpl implements TaskService {
         response.setUpdatedAt(task.getUpdatedAt());
         response.setDueDate(task.getDueDate());
         response.setCompletedAt(task.getCompletedAt());
+        response.setVersion(task.getVersion());
 
         if (task.getAssignee() != null) {
             response.setAssignee(mapToUserResponse(task.getAssignee()));
@@ -350,11 +926,14 @@ public class TaskServiceImpl implements TaskService {
             response.setParentTask(parentResponse);
         }
 
-        if (task.getSubtasks() != null && !task.getSubtasks().isEmpty()) {
-            List<TaskResponse> subtaskResponses = task.getSubtasks().stream()
-                    .map(this::mapToTaskResponse)
-                    .collect(Collectors.toList());
-            response.setSubtasks(subtaskResponses);
+        if (withSubtasks) {
+            List<Task> subtasks = task.getSubtasks() != null ? task.getSubtasks() : Collections.emptyList();
+            response.setSubtaskCount(subtasks.size());
+            if (!subtasks.isEmpty()) {
+                response.setSubtasks(subtasks.stream()
+                        .map(this::mapToTaskResponse)
+                        .collect(Collectors.toList()));
+            }
         }
 
         return response;
@@ -373,4 +952,19 @@ public class TaskServiceImpl implements TaskService {
                 user.getUpdatedAt()
         );
     }
-}
\ No newline at end of file
+
+    private TaskStatusChangeResponse mapToStatusChangeResponse(TaskStatusChange change) {
+        return new TaskStatusChangeResponse(
+                change.getId(),
+                change.getTaskId(),
+                change.getFromStatus(),
+                change.getToStatus(),
+                change.getActorId(),
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(change.getChangedAt()), ZoneId.systemDefault())
+        );
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
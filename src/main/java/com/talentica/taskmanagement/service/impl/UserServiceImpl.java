@@ -2,30 +2,58 @@ package com.talentica.taskmanagement.service.impl;
 
 import com.talentica.taskmanagement.dto.request.UserRegistrationRequest;
 import com.talentica.taskmanagement.dto.response.UserResponse;
+import com.talentica.taskmanagement.dto.response.WorkloadResponse;
 import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskStatus;
 import com.talentica.taskmanagement.enums.UserRole;
+import com.talentica.taskmanagement.event.UserChangedEvent;
 import com.talentica.taskmanagement.exception.DuplicateResourceException;
 import com.talentica.taskmanagement.exception.ResourceNotFoundException;
 import com.talentica.taskmanagement.repository.UserRepository;
+import com.talentica.taskmanagement.repository.VersionStamp;
+import com.talentica.taskmanagement.search.UserSearchEngine;
+import com.talentica.taskmanagement.security.PrincipalCache;
 import com.talentica.taskmanagement.service.UserService;
+import com.talentica.taskmanagement.workload.WorkloadCounters;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class UserServiceImpl implements UserService {
 
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final int MAX_SEARCH_LIMIT = 50;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserSearchEngine userSearchEngine;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private WorkloadCounters workloadCounters;
+
     @Override
     public UserResponse registerUser(UserRegistrationRequest request) {
         if (userRepository.existsByUsername(request.getUsername())) {
@@ -46,6 +74,7 @@ public class UserServiceImpl implements UserService {
         user.setIsActive(true);
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(savedUser));
         return mapToUserResponse(savedUser);
     }
 
@@ -56,6 +85,16 @@ public class UserServiceImpl implements UserService {
         return mapToUserResponse(user);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public VersionStamp getUserStamp(Long id) {
+        VersionStamp stamp = userRepository.findStampById(id);
+        if (stamp.isEmpty()) {
+            throw new ResourceNotFoundException("User not found with id: " + id);
+        }
+        return stamp;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public UserResponse getUserByUsername(String username) {
@@ -98,6 +137,9 @@ public class UserServiceImpl implements UserService {
             throw new DuplicateResourceException("Email already exists: " + request.getEmail());
         }
 
+        principalCache.invalidate(user.getUsername());
+        principalCache.invalidate(request.getUsername());
+
         user.setUsername(request.getUsername());
         user.setEmail(request.getEmail());
         user.setFirstName(request.getFirstName());
@@ -109,6 +151,7 @@ public class UserServiceImpl implements UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.of(updatedUser));
         return mapToUserResponse(updatedUser);
     }
 
@@ -117,6 +160,8 @@ public class UserServiceImpl implements UserService {
         User user = findUserEntityById(id);
         user.setIsActive(false);
         userRepository.save(user);
+        principalCache.invalidate(user.getUsername());
+        eventPublisher.publishEvent(UserChangedEvent.of(user));
     }
 
     @Override
@@ -124,6 +169,8 @@ public class UserServiceImpl implements UserService {
         User user = findUserEntityById(id);
         user.setIsActive(true);
         userRepository.save(user);
+        principalCache.invalidate(user.getUsername());
+        eventPublisher.publishEvent(UserChangedEvent.of(user));
     }
 
     @Override
@@ -154,13 +201,68 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponse> searchUsers(String searchTerm) {
-        return userRepository.searchActiveUsers(searchTerm)
+    public List<User> findUserEntitiesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return userRepository.findAllById(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserResponse> searchUsers(String searchTerm, Integer limit) {
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        int size = limit == null ? DEFAULT_SEARCH_LIMIT : Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT);
+
+        List<Long> userIds = userSearchEngine.search(searchTerm, size);
+        if (userIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // findAllById does not keep the engine's relevance order
+        Map<Long, User> usersById = userRepository.findAllById(userIds)
                 .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return userIds.stream()
+                .map(usersById::get)
+                .filter(user -> user != null && Boolean.TRUE.equals(user.getIsActive()))
                 .map(this::mapToUserResponse)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public WorkloadResponse getUserWorkload(Long id) {
+        User user = findUserEntityById(id);
+        return mapToWorkloadResponse(user, workloadCounters.get(user.getId()));
+    }
+
+    // One users query plus the cached counters, however many people and statuses the board shows
+    @Override
+    @Transactional(readOnly = true)
+    public List<WorkloadResponse> getTeamWorkload() {
+        Map<Long, Map<TaskStatus, Long>> counts = workloadCounters.getAll();
+        return userRepository.findByIsActiveTrue()
+                .stream()
+                .map(user -> mapToWorkloadResponse(user, counts.get(user.getId())))
+                .collect(Collectors.toList());
+    }
+
+    private WorkloadResponse mapToWorkloadResponse(User user, Map<TaskStatus, Long> counts) {
+        Map<TaskStatus, Long> tasksByStatus = new EnumMap<>(TaskStatus.class);
+        long openTasks = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            long count = counts != null ? counts.getOrDefault(status, 0L) : 0L;
+            tasksByStatus.put(status, count);
+            if (status != TaskStatus.DONE) {
+                openTasks += count;
+            }
+        }
+        return new WorkloadResponse(user.getId(), user.getUsername(), tasksByStatus, openTasks);
+    }
+
     private UserResponse mapToUserResponse(User user) {
         return new UserResponse(
                 user.getId(),
@@ -0,0 +1,193 @@
+package com.talentica.taskmanagement.stream;
+
+import com.talentica.taskmanagement.event.TaskChangedEvent;
+import com.talentica.taskmanagement.repository.TaskFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// In-process bus behind GET /api/tasks/stream. Committed task changes are numbered, kept in a bounded replay
+// buffer for Last-Event-ID resume and fanned out to per-connection queues that a small dispatcher pool drains,
+// so idle connections hold no thread. Single instance only: each node streams the changes it committed.
+@Component
+public class TaskEventStream {
+
+    // Event ids are "<boot id>-<sequence>", so an id from before a restart is recognised and answered with a resync
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final Deque<StreamedEvent> replay = new ArrayDeque<>();
+    private final Set<TaskStreamSubscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Object lock = new Object();
+    private long sequence;
+
+    @Value("${tasks.stream.replay-size:1000}")
+    private int replaySize;
+
+    @Value("${tasks.stream.queue-size:256}")
+    private int queueSize;
+
+    @Value("${tasks.stream.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    @Value("${tasks.stream.dispatch-threads:4}")
+    private int dispatchThreads;
+
+    private Executor dispatcher;
+
+    @PostConstruct
+    void start() {
+        dispatcher = Executors.newFixedThreadPool(dispatchThreads, daemonThreads("task-stream-dispatch-"));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (dispatcher instanceof ExecutorService) {
+            ((ExecutorService) dispatcher).shutdownNow();
+        }
+        subscriptions.forEach(TaskStreamSubscription::close);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        publish(event);
+    }
+
+    public void publish(TaskChangedEvent event) {
+        synchronized (lock) {
+            sequence++;
+            StreamedEvent streamed = new StreamedEvent(sequence, bootId + "-" + sequence, event);
+            replay.addLast(streamed);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            // Only queue here; the network writes happen on the dispatcher
+            for (TaskStreamSubscription subscription : subscriptions) {
+                if (matches(subscription.getFilter(), event)) {
+                    subscription.offer(streamed);
+                }
+            }
+        }
+    }
+
+    public SseEmitter subscribe(TaskFilter filter, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        subscribe(filter, lastEventId, emitter);
+        return emitter;
+    }
+
+    // Package-private so tests can supply a recording emitter
+    void subscribe(TaskFilter filter, String lastEventId, SseEmitter emitter) {
+        TaskStreamSubscription subscription = new TaskStreamSubscription(emitter, filter, queueSize, dispatcher,
+                subscriptions::remove);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+
+        // Replay and registration under the publish lock, so no event falls between the two
+        synchronized (lock) {
+            if (lastEventId != null) {
+                replaySince(subscription, lastEventId);
+            }
+            subscriptions.add(subscription);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    private void replaySince(TaskStreamSubscription subscription, String lastEventId) {
+        long lastSequence = parseSequence(lastEventId);
+        long oldestSequence = replay.isEmpty() ? sequence + 1 : replay.getFirst().getSequence();
+        if (lastSequence < 0 || lastSequence > sequence || lastSequence < oldestSequence - 1) {
+            // Unknown, from another boot, or already evicted: the client has to catch up via /changes
+            subscription.requestResync(replay.isEmpty() ? null : replay.getLast().getId());
+            return;
+        }
+        for (StreamedEvent event : replay) {
+            if (event.getSequence() > lastSequence && matches(subscription.getFilter(), event.getEvent())) {
+                subscription.offer(event);
+            }
+        }
+    }
+
+    private long parseSequence(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !bootId.equals(eventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // Only queues a comment per connection; the writes happen on the dispatcher
+    @Scheduled(fixedRateString = "${tasks.stream.heartbeat-ms:15000}", initialDelayString = "${tasks.stream.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        subscriptions.forEach(TaskStreamSubscription::heartbeat);
+    }
+
+    // Matches on the previous status and assignee too, so a subscriber also sees a task leave its view: an event
+    // whose current status or assignee no longer fits the filter means the task has to be dropped
+    static boolean matches(TaskFilter filter, TaskChangedEvent event) {
+        Long involvedUserId = filter.getInvolvedUserId();
+        return (filter.getStatus() == null || filter.getStatus() == event.getTaskStatus()
+                        || filter.getStatus() == event.getPreviousStatus())
+                && (filter.getTaskType() == null || filter.getTaskType() == event.getTaskType())
+                && (filter.getAssigneeId() == null || filter.getAssigneeId().equals(event.getAssigneeId())
+                        || filter.getAssigneeId().equals(event.getPreviousAssigneeId()))
+                && (filter.getReporterId() == null || filter.getReporterId().equals(event.getReporterId()))
+                && (involvedUserId == null || involvedUserId.equals(event.getAssigneeId())
+                        || involvedUserId.equals(event.getPreviousAssigneeId())
+                        || involvedUserId.equals(event.getReporterId()));
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    static final class StreamedEvent {
+
+        private final long sequence;
+        private final String id;
+        private final TaskChangedEvent event;
+
+        StreamedEvent(long sequence, String id, TaskChangedEvent event) {
+            this.sequence = sequence;
+            this.id = id;
+            this.event = event;
+        }
+
+        long getSequence() {
+            return sequence;
+        }
+
+        String getId() {
+            return id;
+        }
+
+        TaskChangedEvent getEvent() {
+            return event;
+        }
+    }
+}
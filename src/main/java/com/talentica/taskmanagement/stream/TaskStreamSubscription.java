@@ -0,0 +1,148 @@
+package com.talentica.taskmanagement.stream;
+
+import com.talentica.taskmanagement.repository.TaskFilter;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+// One SSE connection. Events queue here and a dispatcher thread writes them; at most one drain runs at a time,
+// which keeps writes to the emitter sequential. A full queue is dropped and replaced by a single "resync"
+// event telling the client to catch up through GET /api/tasks/changes.
+class TaskStreamSubscription {
+
+    static final String CHANGE_EVENT = "task-change";
+    static final String RESYNC_EVENT = "resync";
+
+    private final SseEmitter emitter;
+    private final TaskFilter filter;
+    private final int capacity;
+    private final Executor dispatcher;
+    private final Consumer<TaskStreamSubscription> onClose;
+
+    private final Deque<TaskEventStream.StreamedEvent> queue = new ArrayDeque<>();
+    private boolean resyncPending;
+    private String resyncId;
+    private boolean heartbeatPending;
+    private boolean draining;
+    private boolean closed;
+
+    TaskStreamSubscription(SseEmitter emitter, TaskFilter filter, int capacity, Executor dispatcher,
+                           Consumer<TaskStreamSubscription> onClose) {
+        this.emitter = emitter;
+        this.filter = filter;
+        this.capacity = capacity;
+        this.dispatcher = dispatcher;
+        this.onClose = onClose;
+    }
+
+    TaskFilter getFilter() {
+        return filter;
+    }
+
+    synchronized void offer(TaskEventStream.StreamedEvent event) {
+        if (closed) {
+            return;
+        }
+        if (queue.size() >= capacity) {
+            requestResync(event.getId());
+            return;
+        }
+        queue.addLast(event);
+        scheduleDrain();
+    }
+
+    // resumeId is the newest event the client can skip once it has caught up
+    synchronized void requestResync(String resumeId) {
+        if (closed) {
+            return;
+        }
+        queue.clear();
+        resyncPending = true;
+        resyncId = resumeId;
+        scheduleDrain();
+    }
+
+    synchronized void heartbeat() {
+        if (closed || !queue.isEmpty() || resyncPending) {
+            return;
+        }
+        heartbeatPending = true;
+        scheduleDrain();
+    }
+
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+        }
+        onClose.accept(this);
+        try {
+            emitter.complete();
+        } catch (IllegalStateException e) {
+            // Already completed by the container
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining) {
+            return;
+        }
+        draining = true;
+        try {
+            dispatcher.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining = false;
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            SseEmitter.SseEventBuilder next;
+            synchronized (this) {
+                next = nextEventLocked();
+                if (next == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                emitter.send(next);
+            } catch (IOException | IllegalStateException e) {
+                // Client went away
+                close();
+                return;
+            }
+        }
+    }
+
+    private SseEmitter.SseEventBuilder nextEventLocked() {
+        if (closed) {
+            return null;
+        }
+        if (resyncPending) {
+            resyncPending = false;
+            heartbeatPending = false;
+            SseEmitter.SseEventBuilder resync = SseEmitter.event().name(RESYNC_EVENT).data("{}", MediaType.APPLICATION_JSON);
+            return resyncId != null ? resync.id(resyncId) : resync;
+        }
+        TaskEventStream.StreamedEvent event = queue.pollFirst();
+        if (event != null) {
+            heartbeatPending = false;
+            return SseEmitter.event().id(event.getId()).name(CHANGE_EVENT).data(event.getEvent(), MediaType.APPLICATION_JSON);
+        }
+        if (heartbeatPending) {
+            heartbeatPending = false;
+            return SseEmitter.event().comment("heartbeat");
+        }
+        return null;
+    }
+}
@@ -0,0 +1,111 @@
+package com.talentica.taskmanagement.workload;
+
+import com.talentica.taskmanagement.entity.AssigneeWorkload;
+import com.talentica.taskmanagement.enums.TaskStatus;
+import com.talentica.taskmanagement.repository.AssigneeWorkloadRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Per-assignee task counts by status. Writes go to assignee_workload inside the caller's transaction; reads are
+// served from an in-memory copy of the whole table in which only the assignees touched since the last read are
+// reloaded, so a team board costs at most one small query.
+@Component
+public class WorkloadCounters {
+
+    @Autowired
+    private AssigneeWorkloadRepository workloadRepository;
+
+    private volatile Map<Long, Map<TaskStatus, Long>> counts = Collections.emptyMap();
+
+    // Guarded by this
+    private final Set<Long> stale = new HashSet<>();
+    private boolean loaded;
+    private long generation;
+
+    public void apply(WorkloadDelta delta) {
+        for (Map.Entry<Long, Map<TaskStatus, Long>> assignee : delta.getChanges().entrySet()) {
+            for (Map.Entry<TaskStatus, Long> change : assignee.getValue().entrySet()) {
+                // Relative upsert, so concurrent writers add up instead of overwriting each other's counts
+                if (change.getValue() != 0) {
+                    workloadRepository.add(assignee.getKey(), change.getKey(), change.getValue());
+                }
+            }
+        }
+        invalidate(delta.getChanges().keySet());
+    }
+
+    public Map<TaskStatus, Long> get(Long assigneeId) {
+        return getAll().getOrDefault(assigneeId, Collections.emptyMap());
+    }
+
+    public Map<Long, Map<TaskStatus, Long>> getAll() {
+        boolean full;
+        Set<Long> toLoad;
+        long observed;
+        synchronized (this) {
+            if (loaded && stale.isEmpty()) {
+                return counts;
+            }
+            full = !loaded;
+            toLoad = new HashSet<>(stale);
+            observed = generation;
+        }
+
+        List<AssigneeWorkload> rows = full
+                ? workloadRepository.findAll()
+                : workloadRepository.findByAssigneeIdIn(toLoad);
+
+        synchronized (this) {
+            Map<Long, Map<TaskStatus, Long>> merged = full ? new HashMap<>() : new HashMap<>(counts);
+            merged.keySet().removeAll(toLoad);
+            for (AssigneeWorkload row : rows) {
+                merged.computeIfAbsent(row.getAssigneeId(), id -> new EnumMap<>(TaskStatus.class))
+                        .put(row.getTaskStatus(), row.getTaskCount());
+            }
+            merged = Collections.unmodifiableMap(merged);
+            // A write that committed while we were reading leaves the cache stale; answer with what was read
+            if (generation == observed) {
+                counts = merged;
+                loaded = true;
+                stale.removeAll(toLoad);
+            }
+            return merged;
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        counts = Collections.emptyMap();
+        stale.clear();
+        loaded = false;
+        generation++;
+    }
+
+    // Evicts now and again after commit, so a read racing the writing transaction cannot keep its old counts
+    private void invalidate(Collection<Long> assigneeIds) {
+        evict(assigneeIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(assigneeIds);
+                }
+            });
+        }
+    }
+
+    private synchronized void evict(Collection<Long> assigneeIds) {
+        stale.addAll(assigneeIds);
+        generation++;
+    }
+}
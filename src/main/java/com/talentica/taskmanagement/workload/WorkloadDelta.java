@@ -0,0 +1,44 @@
+package com.talentica.taskmanagement.workload;
+
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Net counter changes of one service call, folded per assignee and status so a bulk write costs one UPDATE per
+// (assignee, status) pair rather than one per task. Sorted, so concurrent writers lock counter rows in the same order.
+public class WorkloadDelta {
+
+    private final Map<Long, Map<TaskStatus, Long>> changes = new TreeMap<>();
+
+    public WorkloadDelta added(Task task) {
+        return add(task.getAssignee(), task.getTaskStatus(), 1);
+    }
+
+    public WorkloadDelta removed(Task task) {
+        return add(task.getAssignee(), task.getTaskStatus(), -1);
+    }
+
+    public WorkloadDelta transitioned(User assignee, TaskStatus fromStatus, TaskStatus toStatus) {
+        return add(assignee, fromStatus, -1).add(assignee, toStatus, 1);
+    }
+
+    public WorkloadDelta reassigned(TaskStatus status, User fromAssignee, User toAssignee) {
+        return add(fromAssignee, status, -1).add(toAssignee, status, 1);
+    }
+
+    private WorkloadDelta add(User assignee, TaskStatus status, long amount) {
+        if (assignee != null) {
+            changes.computeIfAbsent(assignee.getId(), id -> new EnumMap<>(TaskStatus.class))
+                    .merge(status, amount, Long::sum);
+        }
+        return this;
+    }
+
+    public Map<Long, Map<TaskStatus, Long>> getChanges() {
+        return changes;
+    }
+}
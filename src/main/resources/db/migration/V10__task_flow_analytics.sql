@@ -0,0 +1,28 @@
+-- Daily pre-aggregates behind /api/analytics. FlowRollup folds task_status_history (V11) into task_flow_daily,
+-- reading the history from its own (changed_at, id) cursor; analytics reads only the daily buckets. Tasks that
+-- exist before these migrations have no history and no creation row.
+
+CREATE TABLE IF NOT EXISTS task_flow_daily (
+    id           BIGSERIAL    PRIMARY KEY,
+    bucket_date  DATE         NOT NULL,
+    assignee_id  BIGINT       NOT NULL,
+    epic_id      BIGINT       NOT NULL,
+    metric       VARCHAR(20)  NOT NULL,
+    bin          INTEGER      NOT NULL,
+    total        BIGINT       NOT NULL,
+    samples      BIGINT       NOT NULL,
+    CONSTRAINT uk_task_flow_daily_key UNIQUE (bucket_date, assignee_id, epic_id, metric, bin)
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_flow_daily_epic_date ON task_flow_daily (epic_id, bucket_date);
+CREATE INDEX IF NOT EXISTS idx_task_flow_daily_assignee_date ON task_flow_daily (assignee_id, bucket_date);
+
+-- Single row: the last history row folded in. Each rollup batch locks it, so nodes take turns.
+CREATE TABLE IF NOT EXISTS task_flow_rollup_cursor (
+    id          INTEGER  PRIMARY KEY,
+    changed_at  BIGINT   NOT NULL,
+    history_id  BIGINT   NOT NULL
+);
+
+INSERT INTO task_flow_rollup_cursor (id, changed_at, history_id) VALUES (1, 0, 0)
+ON CONFLICT (id) DO NOTHING;
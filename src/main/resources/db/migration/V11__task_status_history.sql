@@ -0,0 +1,29 @@
+-- Append-only log of task creations and status transitions, written by TaskServiceImpl with the acting user and
+-- the task's assignee and story points at the time. It is the only status log: the audit endpoints and the flow
+-- analytics rollup (V10) both read it. Creation rows have no from_status; deletion rows have no to_status and
+-- carry the epic the task was under, which can no longer be looked up once it is gone.
+-- Rows are compact: statuses are TaskStatus.getOrder() as SMALLINT and changed_at is epoch milliseconds, with the
+-- 8-byte columns first so no alignment padding is needed. No foreign keys: history outlives deleted tasks and users.
+-- The table is range-partitioned by month on changed_at. TaskHistoryPartitions creates the monthly partitions
+-- ahead of time; the default partition only catches rows written before their month exists.
+
+CREATE SEQUENCE IF NOT EXISTS task_status_history_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS task_status_history (
+    id           BIGINT    NOT NULL DEFAULT nextval('task_status_history_id_seq'),
+    task_id      BIGINT    NOT NULL,
+    actor_id     BIGINT,
+    changed_at   BIGINT    NOT NULL,
+    assignee_id  BIGINT,
+    epic_id      BIGINT,
+    from_status  SMALLINT,
+    to_status    SMALLINT,
+    story_points INTEGER,
+    -- The partition key has to be part of the primary key; (changed_at, id) also serves time-range scans
+    PRIMARY KEY (changed_at, id)
+) PARTITION BY RANGE (changed_at);
+
+CREATE TABLE IF NOT EXISTS task_status_history_default PARTITION OF task_status_history DEFAULT;
+
+-- Per-task history; created on every partition
+CREATE INDEX IF NOT EXISTS idx_task_status_history_task ON task_status_history (task_id, changed_at);
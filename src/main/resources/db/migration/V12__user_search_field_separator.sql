@@ -0,0 +1,15 @@
+-- Rebuilds users.search_text (V4) with chr(31) before every field instead of spaces between them, so a LIKE term
+-- can no longer match across the end of one field and the start of the next. PostgresUserSearchEngine matches
+-- a field prefix as LIKE '%' || chr(31) || term || '%', the same semantics as InMemoryUserSearchEngine.
+-- A generated column's expression cannot be altered in place, so the column and its index are recreated.
+
+DROP INDEX IF EXISTS idx_users_search_text_trgm;
+
+ALTER TABLE users DROP COLUMN IF EXISTS search_text;
+
+ALTER TABLE users ADD COLUMN search_text TEXT
+    GENERATED ALWAYS AS (
+        lower(chr(31) || username || chr(31) || first_name || chr(31) || last_name || chr(31) || email)
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_users_search_text_trgm ON users USING GIN (search_text gin_trgm_ops) WHERE is_active;
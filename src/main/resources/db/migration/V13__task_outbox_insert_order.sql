@@ -0,0 +1,8 @@
+-- OutboxRelay reads task_outbox in insert order. Pooled ids are handed out in blocks per node, so id order is not
+-- commit order. clock_timestamp() is read when the row is inserted, after the task row was written and locked,
+-- so the events of one task sort in the order their transactions committed. now() would not work here: it is
+-- the transaction start time.
+
+ALTER TABLE task_outbox ADD COLUMN IF NOT EXISTS created_at TIMESTAMP NOT NULL DEFAULT clock_timestamp();
+
+CREATE INDEX IF NOT EXISTS idx_task_outbox_created_at_id ON task_outbox (created_at, id);
@@ -0,0 +1,33 @@
+-- Baseline schema matching the JPA mappings of User and Task.
+-- IF NOT EXISTS keeps this safe on databases that were created by Hibernate before migrations existed.
+
+CREATE TABLE IF NOT EXISTS users (
+    id          BIGSERIAL PRIMARY KEY,
+    username    VARCHAR(255) NOT NULL UNIQUE,
+    email       VARCHAR(255) NOT NULL UNIQUE,
+    password    VARCHAR(255) NOT NULL,
+    first_name  VARCHAR(255) NOT NULL,
+    last_name   VARCHAR(255) NOT NULL,
+    role        VARCHAR(255) NOT NULL,
+    is_active   BOOLEAN      NOT NULL,
+    created_at  TIMESTAMP    NOT NULL,
+    updated_at  TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id              BIGSERIAL PRIMARY KEY,
+    title           VARCHAR(255)     NOT NULL,
+    description     TEXT,
+    task_type       VARCHAR(255)     NOT NULL,
+    task_status     VARCHAR(255)     NOT NULL,
+    story_points    INTEGER,
+    estimated_hours DOUBLE PRECISION,
+    actual_hours    DOUBLE PRECISION,
+    assignee_id     BIGINT REFERENCES users (id),
+    reporter_id     BIGINT           NOT NULL REFERENCES users (id),
+    parent_task_id  BIGINT REFERENCES tasks (id),
+    created_at      TIMESTAMP        NOT NULL,
+    updated_at      TIMESTAMP,
+    due_date        TIMESTAMP,
+    completed_at    TIMESTAMP
+);
@@ -0,0 +1,24 @@
+-- Indexes matched to the TaskRepository / UserRepository finders.
+
+-- findByAssignee, findByAssigneeAndStatus, countByAssigneeAndStatus
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_status ON tasks (assignee_id, task_status);
+
+-- findByReporter, findTasksByUser (reporter side)
+CREATE INDEX IF NOT EXISTS idx_tasks_reporter ON tasks (reporter_id);
+
+-- findByParentTask, findSubtasksByParentAndType, subtask batch fetching
+CREATE INDEX IF NOT EXISTS idx_tasks_parent_type ON tasks (parent_task_id, task_type);
+
+-- findByTaskStatus / findByTaskType and their keyset pages ordered by id
+CREATE INDEX IF NOT EXISTS idx_tasks_status_id ON tasks (task_status, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_type_id ON tasks (task_type, id);
+
+-- findOverdueTasks filters on a due_date range and excludes one status, so due_date leads
+-- and only tasks that have a due date are indexed
+CREATE INDEX IF NOT EXISTS idx_tasks_open_due_date ON tasks (due_date, task_status) WHERE due_date IS NOT NULL;
+
+-- Keyset pages ordered by (updated_at, id)
+CREATE INDEX IF NOT EXISTS idx_tasks_updated_at_id ON tasks (updated_at, id);
+
+-- findActiveUsersByRoles, findByRole
+CREATE INDEX IF NOT EXISTS idx_users_active_role ON users (is_active, role);
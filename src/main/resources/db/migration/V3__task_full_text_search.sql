@@ -0,0 +1,10 @@
+-- Full-text search over parent tasks, used by PostgresTaskSearchEngine.
+-- The generated column is maintained by Postgres on every insert/update (requires PostgreSQL 12+).
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector) WHERE parent_task_id IS NULL;
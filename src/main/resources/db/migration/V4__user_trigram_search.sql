@@ -0,0 +1,11 @@
+-- Typeahead user search, used by PostgresUserSearchEngine.
+-- search_text concatenates every searchable field so one trigram GIN index serves LIKE '%term%' and similarity().
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS search_text TEXT
+    GENERATED ALWAYS AS (
+        lower(username || ' ' || first_name || ' ' || last_name || ' ' || email)
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_users_search_text_trgm ON users USING GIN (search_text gin_trgm_ops) WHERE is_active;
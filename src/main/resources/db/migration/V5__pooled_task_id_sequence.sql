@@ -0,0 +1,4 @@
+-- Task ids come from tasks_id_seq with a Hibernate pooled optimizer (allocationSize = 50), which needs the
+-- sequence to advance in matching steps. Each nextval now reserves a block of 50 ids, so inserts can be batched.
+
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
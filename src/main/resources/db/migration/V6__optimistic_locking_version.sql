@@ -0,0 +1,5 @@
+-- Optimistic locking: Hibernate bumps the version on every entity update and checks it in the WHERE clause,
+-- and the set-based task UPDATEs increment it themselves. Existing rows start at 0.
+
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
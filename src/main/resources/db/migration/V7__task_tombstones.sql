@@ -0,0 +1,8 @@
+-- Deleted tasks leave a tombstone so GET /api/tasks/changes can report deletes. Clients page through them by id;
+-- changed tasks are read through idx_tasks_updated_at_id (V2).
+
+CREATE TABLE IF NOT EXISTS task_tombstones (
+    id          BIGSERIAL PRIMARY KEY,
+    task_id     BIGINT    NOT NULL,
+    deleted_at  TIMESTAMP NOT NULL
+);
@@ -0,0 +1,13 @@
+-- Transactional outbox for task domain events. Rows are appended in the transaction that changes the task and
+-- deleted by the relay once delivered, so the table stays small and the relay reads it by primary key.
+-- The id sequence is pooled (allocationSize = 50) like tasks_id_seq so bulk operations batch their inserts.
+
+CREATE SEQUENCE IF NOT EXISTS task_outbox_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS task_outbox (
+    id            BIGINT      PRIMARY KEY DEFAULT nextval('task_outbox_id_seq'),
+    aggregate_id  BIGINT      NOT NULL,
+    event_type    VARCHAR(40) NOT NULL,
+    payload       TEXT        NOT NULL,
+    occurred_at   TIMESTAMP   NOT NULL
+);
@@ -0,0 +1,19 @@
+-- Per-assignee task counts by status, maintained by the task writes and repaired by WorkloadReconciler.
+-- Seeded from the current tasks so the counters start out exact. updated_at is the last counter write, which the
+-- reconciler uses to leave recently written rows alone.
+
+CREATE TABLE IF NOT EXISTS assignee_workload (
+    id           BIGSERIAL    PRIMARY KEY,
+    assignee_id  BIGINT       NOT NULL,
+    task_status  VARCHAR(255) NOT NULL,
+    task_count   BIGINT       NOT NULL,
+    updated_at   TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_assignee_workload_assignee_status UNIQUE (assignee_id, task_status)
+);
+
+INSERT INTO assignee_workload (assignee_id, task_status, task_count)
+SELECT assignee_id, task_status, COUNT(*)
+FROM tasks
+WHERE assignee_id IS NOT NULL
+GROUP BY assignee_id, task_status
+ON CONFLICT (assignee_id, task_status) DO NOTHING;
@@ -0,0 +1,112 @@
+package com.talentica.taskmanagement.analytics;
+
+import com.talentica.taskmanagement.entity.TaskFlowBucket;
+import com.talentica.taskmanagement.entity.TaskStatusChange;
+import com.talentica.taskmanagement.enums.FlowMetric;
+import com.talentica.taskmanagement.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlowAggregateTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 4, 9, 0);
+
+    @Test
+    void add_MeasuresDwellLeadAndCycleTimeAgainstHistory() {
+        List<TaskStatusChange> history = new ArrayList<>(Arrays.asList(
+                transition(1L, null, TaskStatus.TODO, 0),
+                transition(2L, TaskStatus.TODO, TaskStatus.IN_PROGRESS, 5),
+                transition(3L, TaskStatus.IN_PROGRESS, TaskStatus.QA, 30),
+                transition(4L, TaskStatus.QA, TaskStatus.READY_TO_DEPLOY, 32),
+                transition(5L, TaskStatus.READY_TO_DEPLOY, TaskStatus.DONE, 35)));
+
+        FlowAggregate aggregate = new FlowAggregate();
+        for (TaskStatusChange transition : history) {
+            aggregate.add(transition, history, 10L);
+        }
+
+        assertEquals(5, find(aggregate, FlowMetric.CREATED, 0).getTotal());
+        assertEquals(5 * 3600, find(aggregate, FlowMetric.DWELL, TaskStatus.TODO.ordinal()).getTotal());
+        assertEquals(25 * 3600, find(aggregate, FlowMetric.DWELL, TaskStatus.IN_PROGRESS.ordinal()).getTotal());
+        assertEquals(5, find(aggregate, FlowMetric.COMPLETED, 0).getTotal());
+        assertEquals(1, find(aggregate, FlowMetric.COMPLETED, 0).getSamples());
+        assertEquals(35 * 3600, find(aggregate, FlowMetric.LEAD_TIME, FlowHistogram.bin(35 * 3600)).getTotal());
+        assertEquals(30 * 3600, find(aggregate, FlowMetric.CYCLE_TIME, FlowHistogram.bin(30 * 3600)).getTotal());
+        assertTrue(aggregate.getBuckets().stream().allMatch(bucket -> bucket.getEpicId() == 10L
+                && bucket.getAssigneeId() == 7L));
+    }
+
+    @Test
+    void add_WithoutCreationRow_SkipsLeadTime() {
+        TaskStatusChange done = transition(9L, TaskStatus.READY_TO_DEPLOY, TaskStatus.DONE, 0);
+
+        FlowAggregate aggregate = new FlowAggregate();
+        aggregate.add(done, Arrays.asList(done), FlowAggregate.NONE);
+
+        assertNotNull(find(aggregate, FlowMetric.COMPLETED, 0));
+        assertTrue(aggregate.getBuckets().stream().noneMatch(bucket -> bucket.getMetric() == FlowMetric.LEAD_TIME
+                || bucket.getMetric() == FlowMetric.DWELL));
+    }
+
+    @Test
+    void add_DeletedOpenTask_RemovesItsPoints() {
+        List<TaskStatusChange> history = Arrays.asList(
+                transition(1L, null, TaskStatus.TODO, 0),
+                transition(2L, TaskStatus.TODO, TaskStatus.IN_PROGRESS, 5),
+                transition(3L, TaskStatus.IN_PROGRESS, null, 8));
+
+        FlowAggregate aggregate = new FlowAggregate();
+        aggregate.add(history.get(2), history, 10L);
+
+        assertEquals(5, find(aggregate, FlowMetric.REMOVED, 0).getTotal());
+        assertEquals(1, aggregate.getBuckets().size());
+    }
+
+    @Test
+    void add_DeletedDoneTask_KeepsItsCompletedPoints() {
+        List<TaskStatusChange> history = Arrays.asList(
+                transition(1L, null, TaskStatus.READY_TO_DEPLOY, 0),
+                transition(2L, TaskStatus.READY_TO_DEPLOY, TaskStatus.DONE, 5),
+                transition(3L, TaskStatus.DONE, null, 8));
+
+        FlowAggregate aggregate = new FlowAggregate();
+        aggregate.add(history.get(2), history, 10L);
+
+        assertTrue(aggregate.getBuckets().isEmpty());
+    }
+
+    @Test
+    void percentileHours_ReturnsUpperEdgeOfBinHoldingTheRank() {
+        long[] counts = new long[FlowHistogram.BINS];
+        counts[FlowHistogram.bin(30 * 60)] = 50;       // under an hour
+        counts[FlowHistogram.bin(3 * 3600)] = 35;      // [2, 4) hours
+        counts[FlowHistogram.bin(100 * 3600)] = 15;    // [64, 128) hours
+
+        assertEquals(1.0, FlowHistogram.percentileHours(counts, 0.50));
+        assertEquals(4.0, FlowHistogram.percentileHours(counts, 0.85));
+        assertEquals(128.0, FlowHistogram.percentileHours(counts, 0.95));
+        assertTrue(Double.isNaN(FlowHistogram.percentileHours(new long[FlowHistogram.BINS], 0.5)));
+    }
+
+    private static TaskStatusChange transition(Long id, TaskStatus from, TaskStatus to, int hoursAfterStart) {
+        long changedAt = START.plusHours(hoursAfterStart).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        TaskStatusChange transition = new TaskStatusChange(1L, from, to, 3L, changedAt);
+        transition.setId(id);
+        transition.setAssigneeId(7L);
+        transition.setStoryPoints(5);
+        return transition;
+    }
+
+    private static TaskFlowBucket find(FlowAggregate aggregate, FlowMetric metric, int bin) {
+        return aggregate.getBuckets().stream()
+                .filter(bucket -> bucket.getMetric() == metric && bucket.getBin() == bin)
+                .findFirst().orElse(null);
+    }
+}
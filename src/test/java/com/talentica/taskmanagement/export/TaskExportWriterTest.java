@@ -0,0 +1,68 @@
+package com.talentica.taskmanagement.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.talentica.taskmanagement.dto.response.TaskSummaryResponse;
+import com.talentica.taskmanagement.enums.TaskExportFormat;
+import com.talentica.taskmanagement.enums.TaskStatus;
+import com.talentica.taskmanagement.enums.TaskType;
+import com.talentica.taskmanagement.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskExportWriterTest {
+
+    private TaskExportWriter taskExportWriter;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        taskExportWriter = new TaskExportWriter();
+        ReflectionTestUtils.setField(taskExportWriter, "objectMapper", objectMapper);
+    }
+
+    @Test
+    void write_Csv_QuotesFieldsThatNeedIt() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = taskExportWriter.write(Stream.of(row(1L, "Plain"), row(2L, "Fix \"login\", then\nlogout")),
+                TaskExportFormat.CSV, out, 1000);
+
+        String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, count);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("id,title,taskType,taskStatus,"));
+        assertEquals("1,Plain,TASK,TODO,3,,2024-01-02T10:00,2024-01-02T10:00,,,,,7,alice,MANAGER", lines[1]);
+        assertTrue(lines[2].startsWith("2,\"Fix \"\"login\"\", then\nlogout\",TASK,"));
+    }
+
+    @Test
+    void write_Ndjson_WritesOneObjectPerLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = taskExportWriter.write(Stream.of(row(1L, "First"), row(2L, "Second")),
+                TaskExportFormat.NDJSON, out, 1);
+
+        String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,\"title\":\"First\""));
+        assertTrue(lines[1].contains("\"createdAt\":\"2024-01-02T10:00:00\""));
+    }
+
+    private static TaskSummaryResponse row(Long id, String title) {
+        LocalDateTime timestamp = LocalDateTime.of(2024, 1, 2, 10, 0);
+        return new TaskSummaryResponse(id, title, TaskType.TASK, TaskStatus.TODO, 3, null, timestamp, timestamp, null,
+                null, null, null, 7L, "alice", UserRole.MANAGER);
+    }
+}
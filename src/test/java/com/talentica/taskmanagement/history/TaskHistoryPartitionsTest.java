@@ -0,0 +1,52 @@
+package com.talentica.taskmanagement.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskHistoryPartitionsTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TaskHistoryPartitions partitions;
+
+    @Test
+    void partitionDdl_CoversOneUtcMonthInEpochMillis() {
+        assertEquals("CREATE TABLE IF NOT EXISTS task_status_history_y2024m02 PARTITION OF task_status_history "
+                        + "FOR VALUES FROM (1706745600000) TO (1709251200000)",
+                TaskHistoryPartitions.partitionDdl(YearMonth.of(2024, 2)));
+    }
+
+    @Test
+    void ensurePartitions_CreatesOnlyMissingMonthsAhead() {
+        ReflectionTestUtils.setField(partitions, "monthsAhead", 2);
+        ReflectionTestUtils.setField(partitions, "clock",
+                Clock.fixed(Instant.parse("2024-11-15T10:00:00Z"), ZoneOffset.UTC));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(Collections.singletonList("task_status_history_y2024m11"));
+
+        assertEquals(2, partitions.ensurePartitions());
+
+        verify(jdbcTemplate).execute(TaskHistoryPartitions.partitionDdl(YearMonth.of(2024, 12)));
+        verify(jdbcTemplate).execute(TaskHistoryPartitions.partitionDdl(YearMonth.of(2025, 1)));
+        verify(jdbcTemplate, times(2)).execute(anyString());
+    }
+}
@@ -0,0 +1,222 @@
+package com.talentica.taskmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentica.taskmanagement.dto.response.UserResponse;
+import com.talentica.taskmanagement.service.TaskService;
+import com.talentica.taskmanagement.service.UserService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Excluded from `mvn test`; run with `mvn -Ploadtest test` (see README)
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.root=WARN",
+        "logging.level.com.talentica.taskmanagement=WARN",
+        "logging.level.org.springframework.security=WARN",
+        // Over-budget requests are logged rather than failed so the run measures latency end to end
+        "query-budget.fail-on-exceed=false"
+})
+@ActiveProfiles(resolver = LoadTestProfileResolver.class)
+class HttpLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    private LoadTestDataSeeder seeder;
+    private LoadTestDataSeeder.SeededData data;
+    private final Map<String, String> tokens = new HashMap<>();
+    private final List<String> usernames = new ArrayList<>();
+    private final List<String> managerUsernames = new ArrayList<>();
+
+    @Test
+    void mixedWorkload() throws Exception {
+        LoadTestConfig config = new LoadTestConfig();
+        seeder = new LoadTestDataSeeder(userService, taskService);
+
+        long seedStart = System.nanoTime();
+        data = seeder.seed(config);
+        double seedSeconds = (System.nanoTime() - seedStart) / 1e9;
+
+        for (UserResponse user : data.managers) {
+            managerUsernames.add(user.getUsername());
+        }
+        for (UserResponse user : data.developers) {
+            usernames.add(user.getUsername());
+        }
+        usernames.addAll(managerUsernames);
+        for (String username : usernames) {
+            tokens.put(username, login(username));
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(config.threads);
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.warmupSeconds);
+        long runEnd = warmupEnd + TimeUnit.SECONDS.toNanos(config.durationSeconds);
+        for (int i = 0; i < config.threads; i++) {
+            workers.submit(() -> runWorker(runEnd));
+        }
+
+        long now = System.nanoTime();
+        if (warmupEnd > now) {
+            TimeUnit.NANOSECONDS.sleep(warmupEnd - now);
+        }
+        recorder.start();
+        long measureStart = System.nanoTime();
+
+        workers.shutdown();
+        assertTrue(workers.awaitTermination(config.durationSeconds + 60L, TimeUnit.SECONDS), "Workers did not finish");
+        recorder.stop();
+        double elapsedSeconds = (System.nanoTime() - measureStart) / 1e9;
+
+        String header = String.format("Load test (profile %s): %s%nseeded %d users and %d tasks in %.1fs",
+                System.getProperty("loadtest.profile", "test"), config,
+                usernames.size(), data.taskIds.size(), seedSeconds);
+        recorder.writeReport(config.reportFile, elapsedSeconds, header);
+        System.out.println(recorder.report(elapsedSeconds, header));
+
+        assertTrue(recorder.count(200, 299) > 0, "No successful requests were recorded");
+        assertEquals(0, recorder.count(500, 599), "Server errors during load test, see " + config.reportFile);
+    }
+
+    private void runWorker(long runEnd) {
+        while (System.nanoTime() < runEnd) {
+            try {
+                runRandomOperation();
+            } catch (Exception e) {
+                recorder.record("client error: " + e.getClass().getSimpleName(), 0, 599);
+            }
+        }
+    }
+
+    // Weights approximate the read-heavy mix of the web client
+    private void runRandomOperation() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String user = pick(usernames);
+        String manager = pick(managerUsernames);
+        int roll = random.nextInt(100);
+
+        if (roll < 15) {
+            get("GET /api/tasks?limit=50", "/api/tasks?limit=50", user);
+        } else if (roll < 30) {
+            get("GET /api/tasks/my?limit=50", "/api/tasks/my?limit=50", user);
+        } else if (roll < 50) {
+            get("GET /api/tasks/{id}", "/api/tasks/" + pick(data.taskIds), user);
+        } else if (roll < 55) {
+            get("GET /api/tasks/summary", "/api/tasks/summary?status=TODO", user);
+        } else if (roll < 65) {
+            get("GET /api/tasks/search", "/api/tasks/search?searchTerm=" + encode(seeder.randomWord()), user);
+        } else if (roll < 75) {
+            get("GET /api/users/search", "/api/users/search?searchTerm=" + encode(pick(usernames).substring(0, 4)), manager);
+        } else if (roll < 80) {
+            get("GET /api/auth/me", "/api/auth/me", user);
+        } else if (roll < 82) {
+            long start = System.nanoTime();
+            HttpResponse<String> response = send(loginRequest(user));
+            recorder.record("POST /api/auth/login", System.nanoTime() - start, response.statusCode());
+        } else if (roll < 92) {
+            Map<String, Object> body = new HashMap<>();
+            body.put("description", "Updated under load at " + System.currentTimeMillis());
+            body.put("actualHours", random.nextInt(40));
+            send("PUT /api/tasks/{id}", "PUT", "/api/tasks/" + pick(data.taskIds), body, manager);
+        } else {
+            Map<String, Object> body = new HashMap<>();
+            body.put("title", "Task " + seeder.randomWord());
+            body.put("taskType", "TASK");
+            body.put("parentTaskId", pick(data.storyIds));
+            send("POST /api/tasks", "POST", "/api/tasks", body, manager);
+        }
+    }
+
+    private void get(String endpoint, String path, String username) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + tokens.get(username))
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(request);
+        recorder.record(endpoint, System.nanoTime() - start, response.statusCode());
+    }
+
+    private void send(String endpoint, String method, String path, Object body, String username) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + tokens.get(username))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(request);
+        recorder.record(endpoint, System.nanoTime() - start, response.statusCode());
+    }
+
+    private String login(String username) throws Exception {
+        HttpResponse<String> response = send(loginRequest(username));
+        assertEquals(200, response.statusCode(), "Login failed for " + username + ": " + response.body());
+        JsonNode json = objectMapper.readTree(response.body());
+        return json.get("token").asText();
+    }
+
+    private HttpRequest loginRequest(String username) throws Exception {
+        Map<String, String> body = new HashMap<>();
+        body.put("usernameOrEmail", username);
+        body.put("password", LoadTestDataSeeder.PASSWORD);
+        return HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
@@ -0,0 +1,109 @@
+package com.talentica.taskmanagement.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Per-endpoint latency samples; recording is switched off during warm-up
+class LatencyRecorder {
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    void start() {
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+    }
+
+    void record(String endpoint, long nanos, int status) {
+        if (recording) {
+            endpoints.computeIfAbsent(endpoint, key -> new EndpointStats()).add(nanos, status);
+        }
+    }
+
+    long count(int minStatus, int maxStatus) {
+        return endpoints.values().stream().mapToLong(stats -> stats.countStatus(minStatus, maxStatus)).sum();
+    }
+
+    String report(double elapsedSeconds, String header) {
+        StringBuilder report = new StringBuilder();
+        report.append(header).append('\n');
+        report.append(String.format("elapsed=%.1fs%n%n", elapsedSeconds));
+        report.append(String.format("%-36s %8s %8s %9s %9s %9s %9s %7s%n",
+                "endpoint", "requests", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "errors"));
+
+        long total = 0;
+        for (Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpoints).entrySet()) {
+            long[] samples = entry.getValue().sortedSamples();
+            total += samples.length;
+            report.append(String.format("%-36s %8d %8.1f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                    entry.getKey(), samples.length, samples.length / elapsedSeconds,
+                    millis(percentile(samples, 50)), millis(percentile(samples, 95)),
+                    millis(percentile(samples, 99)), millis(samples.length == 0 ? 0 : samples[samples.length - 1]),
+                    entry.getValue().countStatus(400, 599)));
+        }
+        report.append(String.format("%nTOTAL %d requests, %.1f req/s%n", total, total / elapsedSeconds));
+        return report.toString();
+    }
+
+    void writeReport(Path file, double elapsedSeconds, String header) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, report(elapsedSeconds, header).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Nearest-rank percentile
+    static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class EndpointStats {
+
+        private long[] samples = new long[1024];
+        private int[] statuses = new int[1024];
+        private int size;
+
+        synchronized void add(long nanos, int status) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+                statuses = Arrays.copyOf(statuses, size * 2);
+            }
+            samples[size] = nanos;
+            statuses[size] = status;
+            size++;
+        }
+
+        synchronized long[] sortedSamples() {
+            long[] copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized long countStatus(int min, int max) {
+            long count = 0;
+            for (int i = 0; i < size; i++) {
+                if (statuses[i] >= min && statuses[i] <= max) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.talentica.taskmanagement.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// Volumes and run length, overridable with -Dloadtest.<name>=<value> on the mvn command line
+class LoadTestConfig {
+
+    final int managers = intProperty("managers", 5);
+    final int developers = intProperty("developers", 20);
+    final int epics = intProperty("epics", 10);
+    final int storiesPerEpic = intProperty("storiesPerEpic", 10);
+    final int subtasksPerStory = intProperty("subtasksPerStory", 5);
+    final int threads = intProperty("threads", 16);
+    final int warmupSeconds = intProperty("warmupSeconds", 10);
+    final int durationSeconds = intProperty("durationSeconds", 60);
+    final Path reportFile = Paths.get(System.getProperty("loadtest.reportFile", "target/loadtest-report.txt"));
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("loadtest." + name, String.valueOf(defaultValue)));
+    }
+
+    @Override
+    public String toString() {
+        return "managers=" + managers + ", developers=" + developers + ", epics=" + epics +
+               ", storiesPerEpic=" + storiesPerEpic + ", subtasksPerStory=" + subtasksPerStory +
+               ", threads=" + threads + ", warmupSeconds=" + warmupSeconds + ", durationSeconds=" + durationSeconds;
+    }
+}
@@ -0,0 +1,107 @@
+package com.talentica.taskmanagement.loadtest;
+
+import com.talentica.taskmanagement.dto.request.TaskCreateRequest;
+import com.talentica.taskmanagement.dto.request.UserRegistrationRequest;
+import com.talentica.taskmanagement.dto.response.TaskResponse;
+import com.talentica.taskmanagement.dto.response.UserResponse;
+import com.talentica.taskmanagement.enums.TaskType;
+import com.talentica.taskmanagement.enums.UserRole;
+import com.talentica.taskmanagement.service.TaskService;
+import com.talentica.taskmanagement.service.UserService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Seeds users, epics, stories and subtasks through the service layer, the same path the API uses
+class LoadTestDataSeeder {
+
+    static final String PASSWORD = "loadtest123";
+
+    private static final String[] WORDS = {
+            "login", "payment", "checkout", "search", "report", "export", "invoice", "profile",
+            "notification", "dashboard", "billing", "onboarding", "audit", "cache", "latency", "mobile"
+    };
+
+    private final UserService userService;
+    private final TaskService taskService;
+    private final Random random = new Random(42);
+
+    LoadTestDataSeeder(UserService userService, TaskService taskService) {
+        this.userService = userService;
+        this.taskService = taskService;
+    }
+
+    SeededData seed(LoadTestConfig config) {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        SeededData data = new SeededData();
+
+        for (int i = 0; i < config.managers; i++) {
+            data.managers.add(register("lt" + runId + "mgr" + i, UserRole.MANAGER));
+        }
+        for (int i = 0; i < config.developers; i++) {
+            data.developers.add(register("lt" + runId + "dev" + i, UserRole.DEVELOPER));
+        }
+
+        for (int e = 0; e < config.epics; e++) {
+            UserResponse manager = data.managers.get(e % data.managers.size());
+            TaskResponse epic = create(TaskType.EPIC, null, null, manager);
+            data.taskIds.add(epic.getId());
+
+            for (int s = 0; s < config.storiesPerEpic; s++) {
+                UserResponse developer = data.developers.get(random.nextInt(data.developers.size()));
+                TaskResponse story = create(TaskType.STORY, epic.getId(), developer.getId(), manager);
+                data.taskIds.add(story.getId());
+                data.storyIds.add(story.getId());
+
+                for (int t = 0; t < config.subtasksPerStory; t++) {
+                    // Managers cannot create subtasks; the story's assignee can
+                    TaskResponse subtask = create(TaskType.SUBTASK, story.getId(), developer.getId(), developer);
+                    data.taskIds.add(subtask.getId());
+                }
+            }
+        }
+        return data;
+    }
+
+    String randomWord() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private UserResponse register(String username, UserRole role) {
+        UserRegistrationRequest request = new UserRegistrationRequest();
+        request.setUsername(username);
+        request.setEmail(username + "@loadtest.example.com");
+        request.setPassword(PASSWORD);
+        request.setFirstName(capitalize(randomWord()));
+        request.setLastName(capitalize(randomWord()));
+        request.setRole(role);
+        return userService.registerUser(request);
+    }
+
+    private TaskResponse create(TaskType type, Long parentTaskId, Long assigneeId, UserResponse reporter) {
+        TaskCreateRequest request = new TaskCreateRequest();
+        request.setTitle(type.getDisplayName() + " " + randomWord() + " " + randomWord());
+        request.setDescription("Improve " + randomWord() + " and " + randomWord() + " for the " + randomWord() + " flow");
+        request.setTaskType(type);
+        request.setParentTaskId(parentTaskId);
+        request.setAssigneeId(assigneeId);
+        request.setStoryPoints(1 + random.nextInt(8));
+        request.setEstimatedHours(1.0 + random.nextInt(16));
+        request.setDueDate(LocalDateTime.now().plusDays(1 + random.nextInt(60)));
+        return taskService.createTask(request, userService.findUserEntityById(reporter.getId()));
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    static class SeededData {
+
+        final List<UserResponse> managers = new ArrayList<>();
+        final List<UserResponse> developers = new ArrayList<>();
+        final List<Long> taskIds = new ArrayList<>();
+        final List<Long> storyIds = new ArrayList<>();
+    }
+}
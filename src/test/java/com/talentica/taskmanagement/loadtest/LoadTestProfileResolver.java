@@ -0,0 +1,12 @@
+package com.talentica.taskmanagement.loadtest;
+
+import org.springframework.test.context.ActiveProfilesResolver;
+
+// "test" (H2) by default; -Dloadtest.profile=dev points the run at the local Postgres container instead
+public class LoadTestProfileResolver implements ActiveProfilesResolver {
+
+    @Override
+    public String[] resolve(Class<?> testClass) {
+        return new String[]{System.getProperty("loadtest.profile", "test")};
+    }
+}
@@ -0,0 +1,33 @@
+package com.talentica.taskmanagement.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Test inspector that also records the SQL, e.g. so a test can EXPLAIN what a repository finder generates.
+// Register it with spring.jpa.properties.hibernate.session_factory.statement_inspector; it keeps the counting.
+public class CapturingStatementInspector extends QueryCountingStatementInspector {
+
+    // Set only inside capture
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return super.inspect(sql);
+    }
+
+    // SQL of every statement Hibernate prepares on this thread while the work runs, in order
+    public static List<String> capture(Runnable work) {
+        List<String> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            work.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return statements;
+    }
+}
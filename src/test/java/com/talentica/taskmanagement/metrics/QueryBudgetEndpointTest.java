@@ -0,0 +1,110 @@
+package com.talentica.taskmanagement.metrics;
+
+import com.talentica.taskmanagement.dto.response.QueryBudgetReport;
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskType;
+import com.talentica.taskmanagement.enums.UserRole;
+import com.talentica.taskmanagement.repository.TaskRepository;
+import com.talentica.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Drives the budgeted endpoints over a data set big enough to expose an N+1. The test profile sets
+// query-budget.fail-on-exceed, so an endpoint over its @QueryBudget fails the request and this test.
+@SpringBootTest(properties = {
+        "outbox.relay.enabled=false",
+        "workload.reconcile.enabled=false",
+        "analytics.rollup.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class QueryBudgetEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private QueryBudgetMonitor queryBudgetMonitor;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User manager;
+    private User developer;
+    private Task epic;
+
+    @BeforeEach
+    void setUp() {
+        manager = userRepository.save(new User("qb_manager", "qb_manager@example.com", "password",
+                "Budget", "Manager", UserRole.MANAGER));
+        developer = userRepository.save(new User("qb_developer", "qb_developer@example.com", "password",
+                "Budget", "Developer", UserRole.DEVELOPER));
+        epic = taskRepository.save(new Task("Epic", null, TaskType.EPIC, manager));
+        for (int i = 0; i < 10; i++) {
+            Task story = new Task("Story " + i, "Story description", TaskType.STORY, manager);
+            story.setAssignee(developer);
+            story.setParentTask(epic);
+            story = taskRepository.save(story);
+            for (int j = 0; j < 3; j++) {
+                Task subtask = new Task("Subtask " + i + "." + j, null, TaskType.SUBTASK, developer);
+                subtask.setAssignee(developer);
+                subtask.setParentTask(story);
+                taskRepository.save(subtask);
+            }
+        }
+        // Requests must load from the database, not from what seeding left in the persistence context
+        entityManager.flush();
+        entityManager.clear();
+        queryBudgetMonitor.reset();
+    }
+
+    @Test
+    void readEndpoints_StayWithinTheirQueryBudgets() throws Exception {
+        mockMvc.perform(get("/api/tasks").with(user(manager))).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/summary").with(user(manager))).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/{id}", epic.getId()).with(user(manager))).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/{id}/tree", epic.getId()).with(user(manager))).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/my").with(user(developer))).andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks/status/DRAFT").with(user(manager))).andExpect(status().isOk());
+        mockMvc.perform(get("/api/users").with(user(manager))).andExpect(status().isOk());
+        mockMvc.perform(get("/api/users/{id}", developer.getId()).with(user(manager))).andExpect(status().isOk());
+
+        List<QueryBudgetReport> reports = queryBudgetMonitor.getTopOffenders(100);
+        assertEquals(8, reports.size());
+        for (QueryBudgetReport report : reports) {
+            assertTrue(report.isDeclared(), report.getEndpoint() + " has no @QueryBudget");
+            assertEquals(0, report.getOverBudget(), report.getEndpoint() + " went over its budget");
+        }
+    }
+
+    @Test
+    void queryBudgetReport_IsAdminOnly() throws Exception {
+        mockMvc.perform(get("/api/admin/query-budget").with(user(manager))).andExpect(status().isForbidden());
+
+        User admin = userRepository.save(new User("qb_admin", "qb_admin@example.com", "password",
+                "Budget", "Admin", UserRole.ADMIN));
+        mockMvc.perform(get("/api/admin/query-budget").with(user(admin))).andExpect(status().isOk());
+    }
+}
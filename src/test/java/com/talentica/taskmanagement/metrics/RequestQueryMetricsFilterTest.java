@@ -0,0 +1,165 @@
+package com.talentica.taskmanagement.metrics;
+
+import com.talentica.taskmanagement.dto.response.QueryBudgetReport;
+import com.talentica.taskmanagement.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestQueryMetricsFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryBudgetMonitor queryBudgetMonitor;
+    private RequestQueryMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queryBudgetMonitor = new QueryBudgetMonitor();
+        ReflectionTestUtils.setField(queryBudgetMonitor, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(queryBudgetMonitor, "defaultStatements", 50);
+        filter = new RequestQueryMetricsFilter();
+        ReflectionTestUtils.setField(filter, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(filter, "queryBudgetMonitor", queryBudgetMonitor);
+    }
+
+    @Test
+    void request_RecordsItsStatementsAndEntityLoadsUnderTheUriPattern() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/42");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            QueryCountingStatementInspector inspector = new QueryCountingStatementInspector();
+            assertEquals("select 1", inspector.inspect("select 1"));
+            inspector.inspect("select 2");
+            RequestQueryStats.entityLoaded();
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/{id}");
+        });
+
+        DistributionSummary statements = meterRegistry.get("http.server.requests.jdbc.statements")
+                .tags("method", "GET", "uri", "/api/tasks/{id}").summary();
+        DistributionSummary loads = meterRegistry.get("http.server.requests.entity.loads")
+                .tags("method", "GET", "uri", "/api/tasks/{id}").summary();
+        assertEquals(2.0, statements.totalAmount());
+        assertEquals(1.0, loads.totalAmount());
+
+        // Outside a request nothing is tallied
+        RequestQueryStats.statementPrepared();
+        assertEquals(0, RequestQueryStats.end().getStatements());
+    }
+
+    @Test
+    void asyncRequest_CountsTheStreamedBodyAndRecordsOnCompletion() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/export");
+        request.setAsyncSupported(true);
+        QueryCountingStatementInspector inspector = new QueryCountingStatementInspector();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("select user");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/export");
+            req.startAsync();
+        });
+        assertTrue(meterRegistry.find("http.server.requests.jdbc.statements").summaries().isEmpty());
+
+        // The body runs on another thread, between the interceptor's pre- and post-processing
+        RequestQueryStatsCallableInterceptor interceptor = new RequestQueryStatsCallableInterceptor();
+        Thread body = new Thread(() -> {
+            ServletWebRequest webRequest = new ServletWebRequest(request);
+            interceptor.preProcess(webRequest, null);
+            inspector.inspect("select tasks");
+            inspector.inspect("select more tasks");
+            interceptor.postProcess(webRequest, null, null);
+        });
+        body.start();
+        body.join();
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        DistributionSummary statements = meterRegistry.get("http.server.requests.jdbc.statements")
+                .tags("method", "GET", "uri", "/api/tasks/export").summary();
+        assertEquals(1, statements.count());
+        assertEquals(3.0, statements.totalAmount());
+    }
+
+    @Test
+    void requestOverDeclaredBudget_IsReportedAndFailsOnlyInStrictMode() throws Exception {
+        runBudgetedRequest(3);
+        assertEquals(1.0, meterRegistry.get("http.server.requests.query.budget.exceeded")
+                .tags("method", "GET", "uri", "/api/tasks/{id}").counter().count());
+
+        ReflectionTestUtils.setField(queryBudgetMonitor, "failOnExceed", true);
+        assertThrows(QueryBudgetExceededException.class, () -> runBudgetedRequest(3));
+        runBudgetedRequest(2);
+
+        List<QueryBudgetReport> offenders = queryBudgetMonitor.getTopOffenders(10);
+        assertEquals(1, offenders.size());
+        QueryBudgetReport report = offenders.get(0);
+        assertEquals("GET /api/tasks/{id}", report.getEndpoint());
+        assertEquals(2, report.getBudget());
+        assertTrue(report.isDeclared());
+        assertEquals(3, report.getRequests());
+        assertEquals(2, report.getOverBudget());
+        assertEquals(3, report.getMaxStatements());
+        assertNotNull(report.getLastExceededAt());
+
+        queryBudgetMonitor.reset();
+        assertTrue(queryBudgetMonitor.getTopOffenders(10).isEmpty());
+    }
+
+    @Test
+    void asyncRequestOverDeclaredBudget_IsReportedButNotFailed() throws Exception {
+        ReflectionTestUtils.setField(queryBudgetMonitor, "failOnExceed", true);
+        HandlerMethod handler = new HandlerMethod(new BudgetedEndpoint(), BudgetedEndpoint.class.getMethod("get"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/export");
+        request.setAsyncSupported(true);
+        QueryCountingStatementInspector inspector = new QueryCountingStatementInspector();
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/export");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+            req.startAsync();
+        });
+        RequestQueryStatsCallableInterceptor interceptor = new RequestQueryStatsCallableInterceptor();
+        ServletWebRequest webRequest = new ServletWebRequest(request);
+        interceptor.preProcess(webRequest, null);
+        for (int i = 0; i < 3; i++) {
+            inspector.inspect("select " + i);
+        }
+        interceptor.postProcess(webRequest, null, null);
+
+        // The streamed response is already committed, so there is nothing left to fail
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        assertEquals(1.0, meterRegistry.get("http.server.requests.query.budget.exceeded")
+                .tags("method", "GET", "uri", "/api/tasks/export").counter().count());
+    }
+
+    private void runBudgetedRequest(int statements) throws Exception {
+        HandlerMethod handler = new HandlerMethod(new BudgetedEndpoint(), BudgetedEndpoint.class.getMethod("get"));
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/tasks/42"), new MockHttpServletResponse(), (req, res) -> {
+            QueryCountingStatementInspector inspector = new QueryCountingStatementInspector();
+            for (int i = 0; i < statements; i++) {
+                inspector.inspect("select " + i);
+            }
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/{id}");
+            req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+        });
+    }
+
+    static class BudgetedEndpoint {
+
+        @QueryBudget(statements = 2)
+        public void get() {
+        }
+    }
+}
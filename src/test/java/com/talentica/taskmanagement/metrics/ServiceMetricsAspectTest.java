@@ -0,0 +1,59 @@
+package com.talentica.taskmanagement.metrics;
+
+import com.talentica.taskmanagement.enums.TaskStatus;
+import com.talentica.taskmanagement.exception.ResourceNotFoundException;
+import com.talentica.taskmanagement.service.TaskService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskService target;
+    private TaskService proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ServiceMetricsAspect aspect = new ServiceMetricsAspect();
+        ReflectionTestUtils.setField(aspect, "meterRegistry", meterRegistry);
+
+        target = mock(TaskService.class);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    void serviceCall_IsTimedPerMethodUnderTheInterfaceName() {
+        when(target.getAvailableTransitions(1L)).thenReturn(Collections.singletonList(TaskStatus.TODO));
+
+        proxy.getAvailableTransitions(1L);
+        proxy.getAvailableTransitions(1L);
+
+        Timer timer = meterRegistry.get("service.calls")
+                .tags("service", "TaskService", "method", "getAvailableTransitions", "exception", "none")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void failingServiceCall_IsTaggedWithTheExceptionAndRethrown() {
+        when(target.getTaskById(9L)).thenThrow(new ResourceNotFoundException("Task not found with id: 9"));
+
+        assertThrows(ResourceNotFoundException.class, () -> proxy.getTaskById(9L));
+
+        assertEquals(1, meterRegistry.get("service.calls")
+                .tags("method", "getTaskById", "exception", "ResourceNotFoundException")
+                .timer().count());
+    }
+}
@@ -0,0 +1,77 @@
+package com.talentica.taskmanagement.outbox;
+
+import com.talentica.taskmanagement.entity.OutboxEvent;
+import com.talentica.taskmanagement.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxSink outboxSink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 2);
+        outboxRelay.init();
+    }
+
+    @Test
+    void drain_PublishesFullBatchesInOrderThenDeletesThem() {
+        List<OutboxEvent> first = Arrays.asList(event(1L), event(2L));
+        List<OutboxEvent> second = Collections.singletonList(event(3L));
+        when(outboxEventRepository.findOldest(any(Pageable.class))).thenReturn(first, second);
+
+        outboxRelay.drain();
+
+        verify(outboxSink).publish(first);
+        verify(outboxSink).publish(second);
+        verify(outboxEventRepository).deleteByIdIn(Arrays.asList(1L, 2L));
+        verify(outboxEventRepository).deleteByIdIn(Collections.singletonList(3L));
+        verify(outboxEventRepository, times(2)).findOldest(any(Pageable.class));
+    }
+
+    @Test
+    void drain_SinkFailure_KeepsBatchForRetry() {
+        List<OutboxEvent> batch = Arrays.asList(event(1L), event(2L));
+        when(outboxEventRepository.findOldest(any(Pageable.class))).thenReturn(batch);
+        doThrow(new IllegalStateException("sink down")).when(outboxSink).publish(batch);
+
+        assertThrows(IllegalStateException.class, () -> outboxRelay.drain());
+
+        verify(outboxEventRepository, never()).deleteByIdIn(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    private static OutboxEvent event(Long id) {
+        OutboxEvent event = new OutboxEvent(10L + id, "TaskUpdated", "{\"taskId\":" + (10L + id) + "}", LocalDateTime.now());
+        event.setId(id);
+        return event;
+    }
+}
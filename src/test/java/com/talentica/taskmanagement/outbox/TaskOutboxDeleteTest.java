@@ -0,0 +1,72 @@
+package com.talentica.taskmanagement.outbox;
+
+import com.talentica.taskmanagement.entity.OutboxEvent;
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskType;
+import com.talentica.taskmanagement.enums.UserRole;
+import com.talentica.taskmanagement.repository.OutboxEventRepository;
+import com.talentica.taskmanagement.repository.TaskRepository;
+import com.talentica.taskmanagement.repository.UserRepository;
+import com.talentica.taskmanagement.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "outbox.relay.enabled=false",
+        "workload.reconcile.enabled=false",
+        "analytics.rollup.enabled=false"
+})
+@ActiveProfiles("test")
+@Transactional
+class TaskOutboxDeleteTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void deleteTask_WritesTaskDeletedForEveryCascadedSubtask() {
+        User manager = userRepository.save(new User("outbox_manager", "outbox_manager@example.com", "password",
+                "Outbox", "Manager", UserRole.MANAGER));
+        Task story = taskRepository.save(new Task("Story", null, TaskType.STORY, manager));
+        Task first = new Task("First subtask", null, TaskType.SUBTASK, manager);
+        first.setParentTask(story);
+        Task second = new Task("Second subtask", null, TaskType.SUBTASK, manager);
+        second.setParentTask(story);
+        taskRepository.saveAll(Arrays.asList(first, second));
+        entityManager.flush();
+        entityManager.clear();
+
+        taskService.deleteTask(story.getId(), manager);
+        entityManager.flush();
+
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertEquals(3, events.size());
+        assertTrue(events.stream().allMatch(event -> "TaskDeleted".equals(event.getEventType())));
+        assertEquals(new HashSet<>(Arrays.asList(story.getId(), first.getId(), second.getId())),
+                events.stream().map(OutboxEvent::getAggregateId).collect(Collectors.toSet()));
+    }
+}
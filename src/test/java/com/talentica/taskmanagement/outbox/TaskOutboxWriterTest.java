@@ -0,0 +1,50 @@
+package com.talentica.taskmanagement.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentica.taskmanagement.entity.OutboxEvent;
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.enums.TaskStatus;
+import com.talentica.taskmanagement.enums.TaskType;
+import com.talentica.taskmanagement.event.TaskChangedEvent;
+import com.talentica.taskmanagement.repository.OutboxEventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TaskOutboxWriterTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private TaskOutboxWriter taskOutboxWriter;
+
+    @Test
+    void onTaskChanged_WritesCompactTransitionEvent() {
+        Task task = new Task();
+        task.setId(5L);
+        task.setTitle("Title that should not be copied");
+        task.setTaskType(TaskType.STORY);
+        task.setTaskStatus(TaskStatus.IN_PROGRESS);
+
+        taskOutboxWriter.onTaskChanged(TaskChangedEvent.transitioned(task, TaskStatus.TODO));
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        OutboxEvent saved = captor.getValue();
+        assertEquals(Long.valueOf(5L), saved.getAggregateId());
+        assertEquals("StatusTransitioned", saved.getEventType());
+        assertEquals("{\"taskId\":5,\"from\":\"TODO\",\"to\":\"IN_PROGRESS\"}", saved.getPayload());
+    }
+}
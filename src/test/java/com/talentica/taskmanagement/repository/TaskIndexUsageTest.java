@@ -0,0 +1,136 @@
+package com.talentica.taskmanagement.repository;
+
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskStatus;
+import com.talentica.taskmanagement.enums.TaskType;
+import com.talentica.taskmanagement.enums.UserRole;
+import com.talentica.taskmanagement.metrics.CapturingStatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Each test EXPLAINs the SQL Hibernate actually generated for the named finder; H2 reports the chosen
+// access path in its EXPLAIN output, either an index name or "tableScan".
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.talentica.taskmanagement.metrics.CapturingStatementInspector")
+@ActiveProfiles("test")
+@Transactional
+class TaskIndexUsageTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User manager;
+    private User developer;
+    private Task parent;
+
+    @BeforeEach
+    void setUp() {
+        manager = userRepository.save(new User("idx_manager", "idx_manager@example.com", "password",
+                "Index", "Manager", UserRole.MANAGER));
+        developer = userRepository.save(new User("idx_developer", "idx_developer@example.com", "password",
+                "Index", "Developer", UserRole.DEVELOPER));
+
+        TaskStatus[] statuses = TaskStatus.values();
+        for (int i = 0; i < 60; i++) {
+            Task task = new Task("Task " + i, "Description " + i, TaskType.values()[i % TaskType.values().length], manager);
+            task.setTaskStatus(statuses[i % statuses.length]);
+            task.setAssignee(i % 2 == 0 ? developer : manager);
+            task.setDueDate(i % 3 == 0 ? LocalDateTime.now().plusDays(i - 30) : null);
+            // A few children, so parent_task_id stays selective
+            task.setParentTask(i % 10 == 5 ? parent : null);
+            task = taskRepository.save(task);
+            if (parent == null) {
+                parent = task;
+            }
+        }
+        entityManager.flush();
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void countByAssigneeAndStatus_UsesAssigneeStatusIndex() {
+        assertIndexUsed("idx_tasks_assignee_status",
+                () -> taskRepository.countByAssigneeAndStatus(developer, TaskStatus.TODO),
+                developer.getId(), TaskStatus.TODO.name());
+    }
+
+    @Test
+    void findByAssignee_UsesAssigneeStatusIndex() {
+        assertIndexUsed("idx_tasks_assignee_status",
+                () -> taskRepository.findByAssignee(developer), developer.getId());
+    }
+
+    @Test
+    void findByReporter_UsesReporterIndex() {
+        assertIndexUsed("idx_tasks_reporter",
+                () -> taskRepository.findByReporter(manager), manager.getId());
+    }
+
+    @Test
+    void findByTaskStatus_UsesStatusIndex() {
+        assertIndexUsed("idx_tasks_status_id",
+                () -> taskRepository.findByTaskStatus(TaskStatus.QA), TaskStatus.QA.name());
+    }
+
+    @Test
+    void findByTaskType_UsesTypeIndex() {
+        assertIndexUsed("idx_tasks_type_id",
+                () -> taskRepository.findByTaskType(TaskType.EPIC), TaskType.EPIC.name());
+    }
+
+    @Test
+    void findByParentTask_UsesParentTypeIndex() {
+        assertIndexUsed("idx_tasks_parent_type",
+                () -> taskRepository.findByParentTask(parent), parent.getId());
+    }
+
+    @Test
+    void findSubtasksByParentAndType_UsesParentTypeIndex() {
+        assertIndexUsed("idx_tasks_parent_type",
+                () -> taskRepository.findSubtasksByParentAndType(parent, TaskType.SUBTASK),
+                parent.getId(), TaskType.SUBTASK.name());
+    }
+
+    @Test
+    void findOverdueTasks_UsesDueDateIndex() {
+        LocalDateTime now = LocalDateTime.now();
+        assertIndexUsed("idx_tasks_open_due_date",
+                () -> taskRepository.findOverdueTasks(now, TaskStatus.DONE),
+                Timestamp.valueOf(now), TaskStatus.DONE.name());
+    }
+
+    // Runs the finder, takes the one statement Hibernate prepared for it and EXPLAINs that SQL with the same
+    // bind values, in the order the finder's parameters appear in its WHERE clause
+    private void assertIndexUsed(String indexName, Runnable finder, Object... bindValues) {
+        List<String> statements = CapturingStatementInspector.capture(finder);
+        assertEquals(1, statements.size(), "Expected one statement but got: " + statements);
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + statements.get(0), String.class, bindValues);
+        assertNotNull(plan);
+        assertFalse(plan.contains("tableScan"), "Expected an index-backed plan but got: " + plan);
+        assertTrue(plan.toUpperCase().contains(indexName.toUpperCase()),
+                "Expected " + indexName + " in plan: " + plan);
+    }
+}
@@ -0,0 +1,65 @@
+package com.talentica.taskmanagement.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTaskSearchEngineTest {
+
+    private InMemoryTaskSearchEngine searchEngine;
+
+    @BeforeEach
+    void setUp() {
+        searchEngine = new InMemoryTaskSearchEngine();
+        searchEngine.index(1L, "Login page redesign", "Refresh the login form styling");
+        searchEngine.index(2L, "Payment service", "Retry failed payment webhooks from the login audit");
+        searchEngine.index(3L, "Reporting export", "CSV export for finance");
+    }
+
+    @Test
+    void search_RanksTitleMatchesFirst() {
+        TaskSearchResult result = searchEngine.search("login", 0, 10);
+
+        assertEquals(2, result.getTotalHits());
+        assertEquals(Long.valueOf(1L), result.getHits().get(0).getTaskId());
+    }
+
+    @Test
+    void search_RequiresAllTerms() {
+        TaskSearchResult result = searchEngine.search("login payment", 0, 10);
+
+        assertEquals(1, result.getTotalHits());
+        assertEquals(Long.valueOf(2L), result.getHits().get(0).getTaskId());
+    }
+
+    @Test
+    void search_Paginates() {
+        TaskSearchResult result = searchEngine.search("login", 1, 1);
+
+        assertEquals(2, result.getTotalHits());
+        assertEquals(1, result.getHits().size());
+        assertEquals(Long.valueOf(2L), result.getHits().get(0).getTaskId());
+    }
+
+    @Test
+    void index_ReplacesPreviousTerms() {
+        searchEngine.index(3L, "Quarterly report", "PDF only");
+
+        assertEquals(0, searchEngine.search("csv", 0, 10).getTotalHits());
+        assertEquals(1, searchEngine.search("quarterly", 0, 10).getTotalHits());
+    }
+
+    @Test
+    void remove_DropsTaskFromResults() {
+        searchEngine.remove(1L);
+
+        List<Long> ids = searchEngine.search("login", 0, 10).getHits().stream()
+                .map(TaskSearchHit::getTaskId)
+                .collect(Collectors.toList());
+        assertFalse(ids.contains(1L));
+    }
+}
@@ -0,0 +1,56 @@
+package com.talentica.taskmanagement.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryUserSearchEngineTest {
+
+    private InMemoryUserSearchEngine searchEngine;
+
+    @BeforeEach
+    void setUp() {
+        searchEngine = new InMemoryUserSearchEngine();
+        searchEngine.index(1L, "jdoe", "John", "Doe", "john.doe@example.com");
+        searchEngine.index(2L, "annajones", "Anna", "Jones", "anna@example.com");
+        searchEngine.index(3L, "jo", "Joanne", "Smith", "smith@example.com");
+        searchEngine.index(4L, "mkeller", "Mark", "Keller", "mark.joneson@example.com");
+    }
+
+    @Test
+    void search_RanksExactAndPrefixMatchesFirst() {
+        List<Long> result = searchEngine.search("jo", 10);
+
+        assertEquals(Arrays.asList(3L, 1L, 2L), result.subList(0, 3));
+    }
+
+    @Test
+    void search_MatchesSubstringsThroughTrigrams() {
+        List<Long> result = searchEngine.search("ones", 10);
+
+        assertEquals(Arrays.asList(4L, 2L), result);
+    }
+
+    @Test
+    void search_RespectsLimit() {
+        assertEquals(1, searchEngine.search("example", 1).size());
+    }
+
+    @Test
+    void index_ReplacesPreviousFields() {
+        searchEngine.index(4L, "mkeller", "Mark", "Keller", "mark@example.com");
+
+        assertEquals(Arrays.asList(2L), searchEngine.search("ones", 10));
+    }
+
+    @Test
+    void remove_DropsUserFromResults() {
+        searchEngine.remove(1L);
+
+        assertTrue(searchEngine.search("doe", 10).isEmpty());
+    }
+}
@@ -0,0 +1,87 @@
+package com.talentica.taskmanagement.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs both engines over the same users. The users table carries search_text built like migration V12, written
+// as an H2 computed column; the Postgres engine's SQL is otherwise run as is.
+class UserSearchEngineParityTest {
+
+    private static final Object[][] USERS = {
+            {1L, "jdoe", "John", "Doe", "john.doe@example.com", true},
+            {2L, "annajones", "Anna", "Jones", "anna@example.com", true},
+            {3L, "jo", "Joanne", "Smith", "smith@example.com", true},
+            {4L, "mkeller", "Mark", "Keller", "mark.joneson@example.com", true},
+            {5L, "sdoe", "Sam", "Doe", "doe.sam@example.org", true},
+            {6L, "kjo", "Kim", "Jo", "kim_jo@example.com", true},
+    };
+
+    private EmbeddedDatabase database;
+    private InMemoryUserSearchEngine inMemoryEngine;
+    private PostgresUserSearchEngine postgresEngine;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, username VARCHAR(255) NOT NULL, " +
+                "first_name VARCHAR(255) NOT NULL, last_name VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL, " +
+                "is_active BOOLEAN NOT NULL, search_text VARCHAR AS (lower(CHAR(31) || username || CHAR(31) || " +
+                "first_name || CHAR(31) || last_name || CHAR(31) || email)))");
+
+        inMemoryEngine = new InMemoryUserSearchEngine();
+        for (Object[] user : USERS) {
+            jdbcTemplate.update("INSERT INTO users (id, username, first_name, last_name, email, is_active) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)", user);
+            inMemoryEngine.index((Long) user[0], (String) user[1], (String) user[2], (String) user[3], (String) user[4]);
+        }
+        // Inactive users are in the table but never indexed in memory
+        jdbcTemplate.update("INSERT INTO users (id, username, first_name, last_name, email, is_active) " +
+                "VALUES (7, 'jold', 'Joe', 'Old', 'jold@example.com', FALSE)");
+
+        postgresEngine = new PostgresUserSearchEngine();
+        ReflectionTestUtils.setField(postgresEngine, "jdbcTemplate", new NamedParameterJdbcTemplate(database));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"jo", "j", "doe", "DOE", "ones", "example", "smith", "kim_", "e", "jdoe", "nomatch", "  "})
+    void search_ReturnsTheSameUsersInTheSameOrder(String term) {
+        assertEquals(inMemoryEngine.search(term, 10), postgresEngine.search(term, 10));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"doe john", "doejohn", "jdoe joh", "ellermark"})
+    void search_DoesNotMatchAcrossFieldBoundaries(String term) {
+        assertTrue(inMemoryEngine.search(term, 10).isEmpty());
+        assertTrue(postgresEngine.search(term, 10).isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void search_AppliesTheLimitAfterRanking(int limit) {
+        List<Long> expected = inMemoryEngine.search("example", limit);
+
+        assertEquals(limit, expected.size());
+        assertEquals(expected, postgresEngine.search("example", limit));
+    }
+}
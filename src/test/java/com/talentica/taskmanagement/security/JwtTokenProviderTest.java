@@ -0,0 +1,56 @@
+package com.talentica.taskmanagement.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", "mySecretKeyWhichIslongEnough256TobeProtected");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", 60000);
+        ReflectionTestUtils.setField(tokenProvider, "verifiedCacheMaxSize", 100);
+        tokenProvider.init();
+    }
+
+    @Test
+    void verifyToken_ReturnsSubjectAndExpiry() {
+        String token = tokenProvider.generateTokenFromUsername("testuser");
+
+        VerifiedToken verified = tokenProvider.verifyToken(token);
+
+        assertNotNull(verified);
+        assertEquals("testuser", verified.getSubject());
+        assertTrue(verified.getExpiresAt() > System.currentTimeMillis());
+    }
+
+    @Test
+    void verifyToken_ReusesCachedResultForSameToken() {
+        String token = tokenProvider.generateTokenFromUsername("testuser");
+
+        assertSame(tokenProvider.verifyToken(token), tokenProvider.verifyToken(token));
+    }
+
+    @Test
+    void verifyToken_RejectsTamperedSignature() {
+        String token = tokenProvider.generateTokenFromUsername("testuser");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertNull(tokenProvider.verifyToken(tampered));
+        assertFalse(tokenProvider.validateToken("not-a-jwt"));
+    }
+
+    @Test
+    void verifyToken_RejectsExpiredToken() {
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", -1000);
+        String token = tokenProvider.generateTokenFromUsername("testuser");
+
+        assertNull(tokenProvider.verifyToken(token));
+    }
+}
@@ -0,0 +1,80 @@
+package com.talentica.taskmanagement.security;
+
+import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrincipalCacheTest {
+
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache();
+        ReflectionTestUtils.setField(principalCache, "ttlMs", 60000L);
+        ReflectionTestUtils.setField(principalCache, "maxSize", 2);
+    }
+
+    @Test
+    void put_StoresDetachedCopyWithoutPassword() {
+        User cached = principalCache.put("alice", user(1L, "alice"));
+
+        assertSame(cached, principalCache.get("alice"));
+        assertEquals(Long.valueOf(1L), cached.getId());
+        assertEquals(UserRole.DEVELOPER, cached.getRole());
+        assertNull(cached.getPassword());
+    }
+
+    @Test
+    void put_EvictsLeastRecentlyUsedBeyondMaxSize() {
+        principalCache.put("alice", user(1L, "alice"));
+        principalCache.put("bob", user(2L, "bob"));
+        principalCache.get("alice");
+        principalCache.put("carol", user(3L, "carol"));
+
+        assertNotNull(principalCache.get("alice"));
+        assertNull(principalCache.get("bob"));
+        assertEquals(2, principalCache.size());
+    }
+
+    @Test
+    void get_ReturnsNullOnceExpired() {
+        ReflectionTestUtils.setField(principalCache, "ttlMs", 1L);
+        principalCache.put("alice", user(1L, "alice"));
+
+        sleep(5);
+
+        assertNull(principalCache.get("alice"));
+    }
+
+    @Test
+    void invalidate_RemovesEntry() {
+        principalCache.put("alice", user(1L, "alice"));
+
+        principalCache.invalidate("alice");
+
+        assertNull(principalCache.get("alice"));
+    }
+
+    private static User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setPassword("encoded");
+        user.setRole(UserRole.DEVELOPER);
+        user.setIsActive(true);
+        return user;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.talentica.taskmanagement.security;
+
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskAction;
+import com.talentica.taskmanagement.enums.TaskType;
+import com.talentica.taskmanagement.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskAuthorizationPolicyTest {
+
+    private final TaskAuthorizationPolicy policy = new TaskAuthorizationPolicy();
+
+    private User manager;
+    private User developer;
+    private User tester;
+    private Task story;
+
+    @BeforeEach
+    void setUp() {
+        manager = user(1L, UserRole.MANAGER);
+        developer = user(2L, UserRole.DEVELOPER);
+        tester = user(3L, UserRole.TESTER);
+
+        story = task(10L, TaskType.STORY, manager, developer);
+    }
+
+    @Test
+    void isAllowed_AssigneeCanEditAndTransitionButNotAssignOrDelete() {
+        assertTrue(policy.isAllowed(developer, story, TaskAction.EDIT));
+        assertTrue(policy.isAllowed(developer, story, TaskAction.TRANSITION));
+        assertFalse(policy.isAllowed(developer, story, TaskAction.ASSIGN));
+        assertFalse(policy.isAllowed(developer, story, TaskAction.DELETE));
+    }
+
+    @Test
+    void isAllowed_ReporterCanAssignAndDeleteButNotTransition() {
+        Task reported = task(11L, TaskType.SUBTASK, tester, developer);
+
+        assertTrue(policy.isAllowed(tester, reported, TaskAction.ASSIGN));
+        assertTrue(policy.isAllowed(tester, reported, TaskAction.DELETE));
+        assertFalse(policy.isAllowed(tester, reported, TaskAction.TRANSITION));
+    }
+
+    @Test
+    void canCreate_SubtaskOnlyUnderOwnStoryForDevelopers() {
+        assertTrue(policy.canCreate(developer, TaskType.SUBTASK, story));
+        assertFalse(policy.canCreate(tester, TaskType.SUBTASK, story));
+        assertFalse(policy.canCreate(developer, TaskType.STORY, null));
+        assertFalse(policy.canCreate(manager, TaskType.SUBTASK, story));
+        assertTrue(policy.canCreate(user(4L, UserRole.ADMIN), TaskType.SUBTASK, story));
+    }
+
+    @Test
+    void filter_KeepsOnlyPermittedTasks() {
+        Task other = task(12L, TaskType.TASK, manager, tester);
+
+        List<Task> editable = policy.filter(developer, Arrays.asList(story, other), TaskAction.EDIT);
+
+        assertEquals(Arrays.asList(story), editable);
+        assertEquals(2, policy.filter(manager, Arrays.asList(story, other), TaskAction.DELETE).size());
+    }
+
+    private static User user(Long id, UserRole role) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setRole(role);
+        user.setIsActive(true);
+        return user;
+    }
+
+    private static Task task(Long id, TaskType type, User reporter, User assignee) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setTaskType(type);
+        task.setReporter(reporter);
+        task.setAssignee(assignee);
+        return task;
+    }
+}
@@ -0,0 +1,118 @@
+package com.talentica.taskmanagement.service;
+
+import com.talentica.taskmanagement.dto.response.BurndownPoint;
+import com.talentica.taskmanagement.dto.response.FlowMetricsResponse;
+import com.talentica.taskmanagement.dto.response.ThroughputPoint;
+import com.talentica.taskmanagement.enums.FlowMetric;
+import com.talentica.taskmanagement.enums.TaskStatus;
+import com.talentica.taskmanagement.exception.InvalidDateRangeException;
+import com.talentica.taskmanagement.repository.FlowTotal;
+import com.talentica.taskmanagement.repository.TaskFlowBucketRepository;
+import com.talentica.taskmanagement.service.impl.AnalyticsServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2024, 3, 4);
+
+    @Mock
+    private TaskFlowBucketRepository bucketRepository;
+
+    @InjectMocks
+    private AnalyticsServiceImpl analyticsService;
+
+    @Test
+    void getBurndown_CarriesOpeningBalanceAndFillsEmptyDays() {
+        when(bucketRepository.sumByDay(anyCollection(), any(), eq(MONDAY.plusDays(2)), eq(10L), eq(null)))
+                .thenReturn(Arrays.asList(
+                        day(MONDAY.minusDays(5), FlowMetric.CREATED, 40, 8),
+                        day(MONDAY.minusDays(1), FlowMetric.COMPLETED, 10, 2),
+                        day(MONDAY, FlowMetric.CREATED, 5, 1),
+                        day(MONDAY.plusDays(2), FlowMetric.COMPLETED, 13, 3)));
+
+        List<BurndownPoint> burndown = analyticsService.getBurndown(10L, null, MONDAY, MONDAY.plusDays(2));
+
+        assertEquals(3, burndown.size());
+        assertEquals(35, burndown.get(0).getRemainingPoints());
+        assertEquals(5, burndown.get(0).getAddedPoints());
+        assertEquals(35, burndown.get(1).getRemainingPoints());
+        assertEquals(13, burndown.get(2).getCompletedPoints());
+        assertEquals(22, burndown.get(2).getRemainingPoints());
+    }
+
+    @Test
+    void getBurndown_DeletedOpenTaskLowersRemainingPoints() {
+        when(bucketRepository.sumByDay(anyCollection(), any(), eq(MONDAY.plusDays(1)), eq(10L), eq(null)))
+                .thenReturn(Arrays.asList(
+                        day(MONDAY.minusDays(3), FlowMetric.CREATED, 20, 4),
+                        day(MONDAY.plusDays(1), FlowMetric.REMOVED, 8, 1)));
+
+        List<BurndownPoint> burndown = analyticsService.getBurndown(10L, null, MONDAY, MONDAY.plusDays(1));
+
+        assertEquals(20, burndown.get(0).getRemainingPoints());
+        assertEquals(0, burndown.get(1).getCompletedPoints());
+        assertEquals(12, burndown.get(1).getRemainingPoints());
+    }
+
+    @Test
+    void getThroughput_GroupsDaysIntoMondayWeeks() {
+        when(bucketRepository.sumByDay(anyCollection(), eq(MONDAY), eq(MONDAY.plusDays(13)), eq(null), eq(3L)))
+                .thenReturn(Arrays.asList(
+                        day(MONDAY.plusDays(1), FlowMetric.COMPLETED, 3, 1),
+                        day(MONDAY.plusDays(4), FlowMetric.COMPLETED, 5, 2)));
+
+        List<ThroughputPoint> throughput = analyticsService.getThroughput(null, 3L, MONDAY.plusDays(2), MONDAY.plusDays(13));
+
+        assertEquals(2, throughput.size());
+        assertEquals(MONDAY, throughput.get(0).getWeekStart());
+        assertEquals(3, throughput.get(0).getCompletedTasks());
+        assertEquals(8, throughput.get(0).getCompletedPoints());
+        assertEquals(0, throughput.get(1).getCompletedTasks());
+    }
+
+    @Test
+    void getFlowMetrics_AveragesDwellAndEstimatesPercentiles() {
+        when(bucketRepository.sumByBin(anyCollection(), eq(MONDAY), eq(MONDAY.plusDays(6)), eq(null), eq(null)))
+                .thenReturn(Arrays.asList(
+                        new FlowTotal(FlowMetric.COMPLETED, 0, 21, 4),
+                        new FlowTotal(FlowMetric.DWELL, TaskStatus.IN_PROGRESS.ordinal(), 4 * 3600 * 3, 4),
+                        new FlowTotal(FlowMetric.CYCLE_TIME, 2, 3 * 3600 * 3, 3),
+                        new FlowTotal(FlowMetric.CYCLE_TIME, 5, 20 * 3600, 1)));
+
+        FlowMetricsResponse flow = analyticsService.getFlowMetrics(null, null, MONDAY, MONDAY.plusDays(6));
+
+        assertEquals(4, flow.getCompletedTasks());
+        assertEquals(21, flow.getCompletedPoints());
+        assertEquals(3.0, flow.getAverageDwellHours().get(TaskStatus.IN_PROGRESS));
+        assertEquals(4, flow.getCycleTime().getSamples());
+        assertEquals(4.0, flow.getCycleTime().getP50Hours());
+        assertEquals(32.0, flow.getCycleTime().getP95Hours());
+        assertEquals(0, flow.getLeadTime().getSamples());
+        assertNull(flow.getLeadTime().getP50Hours());
+    }
+
+    @Test
+    void getBurndown_FromAfterTo_IsRejected() {
+        assertThrows(InvalidDateRangeException.class,
+                () -> analyticsService.getBurndown(null, null, MONDAY.plusDays(1), MONDAY));
+    }
+
+    private static FlowTotal day(LocalDate date, FlowMetric metric, long total, long samples) {
+        return new FlowTotal(date, metric, 0, total, samples);
+    }
+}
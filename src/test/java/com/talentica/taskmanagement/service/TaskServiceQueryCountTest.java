@@ -0,0 +1,249 @@
+package com.talentica.taskmanagement.service;
+
+import com.talentica.taskmanagement.dto.request.TaskCreateRequest;
+import com.talentica.taskmanagement.dto.response.BulkOperationResponse;
+import com.talentica.taskmanagement.dto.response.TaskResponse;
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskExportFormat;
+import com.talentica.taskmanagement.enums.TaskStatus;
+import com.talentica.taskmanagement.enums.TaskType;
+import com.talentica.taskmanagement.enums.UserRole;
+import com.talentica.taskmanagement.repository.TaskFilter;
+import com.talentica.taskmanagement.repository.TaskRepository;
+import com.talentica.taskmanagement.repository.UserRepository;
+import com.talentica.taskmanagement.repository.VersionStamp;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "outbox.relay.enabled=false",
+        "workload.reconcile.enabled=false",
+        "analytics.rollup.enabled=false"
+})
+@ActiveProfiles("test")
+@Transactional
+class TaskServiceQueryCountTest {
+
+    private static final int MAX_LIST_STATEMENTS = 4;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User manager;
+    private User developer;
+    private int seeded;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        manager = userRepository.save(new User("qc_manager", "qc_manager@example.com", "password",
+                "Query", "Manager", UserRole.MANAGER));
+        developer = userRepository.save(new User("qc_developer", "qc_developer@example.com", "password",
+                "Query", "Developer", UserRole.DEVELOPER));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ListFinder.class)
+    void listFinder_StatementCountDoesNotGrowWithRows(ListFinder finder) {
+        seedStories(3);
+        long small = countStatements(() -> finder.list(taskService, developer));
+
+        seedStories(30);
+        long large = countStatements(() -> finder.list(taskService, developer));
+
+        assertTrue(small <= MAX_LIST_STATEMENTS, "Expected at most " + MAX_LIST_STATEMENTS + " statements but was " + small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    void bulkCreateTasks_InsertsInJdbcBatches() {
+        seedStories(1);
+        Long storyId = taskRepository.findAll().get(0).getId();
+        List<TaskCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            TaskCreateRequest request = new TaskCreateRequest();
+            request.setTitle("Bulk subtask " + i);
+            request.setTaskType(TaskType.SUBTASK);
+            request.setParentTaskId(storyId);
+            request.setAssigneeId(developer.getId());
+            requests.add(request);
+        }
+
+        BulkOperationResponse[] response = new BulkOperationResponse[1];
+        long statements = countStatements(() -> {
+            response[0] = taskService.bulkCreateTasks(requests, developer);
+            entityManager.flush();
+            return null;
+        });
+
+        assertEquals(200, response[0].getSucceeded());
+        // 2 lookups, ~14 sequence calls, 12 insert batches (tasks, outbox and status history rows) and one
+        // workload counter write; row-by-row inserts would be 600+
+        assertTrue(statements <= 35, "Expected batched inserts but saw " + statements + " statements");
+    }
+
+    @Test
+    void getTaskStamp_IsOneQueryAndChangesWithSubtasks() {
+        seedStories(1);
+        Task story = taskRepository.findAll().stream()
+                .filter(task -> task.getTaskType() == TaskType.STORY)
+                .findFirst().orElseThrow(IllegalStateException::new);
+
+        VersionStamp[] stamp = new VersionStamp[1];
+        long statements = countStatements(() -> stamp[0] = taskService.getTaskStamp(story.getId()));
+        String before = stamp[0].getETag();
+
+        Task subtask = taskRepository.findByParentTask(story).get(0);
+        subtask.setTitle("Renamed subtask");
+        entityManager.flush();
+        VersionStamp after = taskService.getTaskStamp(story.getId());
+
+        assertEquals(1, statements);
+        assertNotEquals(before, after.getETag());
+        // The story itself is unchanged, so an If-Match on it still holds
+        assertEquals(stamp[0].getVersion(), after.getVersion());
+    }
+
+    @Test
+    void getTaskStamp_ChangesWithDescendantsBelowGrandchildren() {
+        Task epic = taskRepository.save(new Task("Epic", null, TaskType.EPIC, manager));
+        Task story = new Task("Story", null, TaskType.STORY, manager);
+        story.setParentTask(epic);
+        story = taskRepository.save(story);
+        Task task = new Task("Task", null, TaskType.TASK, manager);
+        task.setParentTask(story);
+        task = taskRepository.save(task);
+        Task subtask = new Task("Subtask", null, TaskType.SUBTASK, developer);
+        subtask.setParentTask(task);
+        subtask = taskRepository.save(subtask);
+        entityManager.flush();
+
+        VersionStamp before = taskService.getTaskStamp(epic.getId());
+        subtask.setTitle("Renamed subtask");
+        entityManager.flush();
+        VersionStamp after = taskService.getTaskStamp(epic.getId());
+
+        assertNotEquals(before.getETag(), after.getETag());
+        assertEquals(before.getVersion(), after.getVersion());
+    }
+
+    @Test
+    void getTaskTree_IsThreeQueriesForAnyTreeSize() {
+        Task epic = taskRepository.save(new Task("Epic", null, TaskType.EPIC, manager));
+        seedStories(5);
+        taskRepository.findAll().stream()
+                .filter(task -> task.getTaskType() == TaskType.STORY)
+                .forEach(story -> story.setParentTask(epic));
+        entityManager.flush();
+
+        TaskResponse[] tree = new TaskResponse[1];
+        long statements = countStatements(() -> tree[0] = taskService.getTaskTree(epic.getId(), 2));
+
+        assertEquals(3, statements);
+        assertEquals(5, tree[0].getSubtasks().size());
+        assertEquals(Integer.valueOf(5), tree[0].getSubtaskCount());
+        assertEquals(2, tree[0].getSubtasks().get(0).getSubtasks().size());
+
+        TaskResponse shallow = taskService.getTaskTree(epic.getId(), 1);
+        assertNull(shallow.getSubtasks().get(0).getSubtasks());
+        assertEquals(Integer.valueOf(2), shallow.getSubtasks().get(0).getSubtaskCount());
+    }
+
+    @Test
+    void exportTasks_IsOneQueryAndLoadsNoEntities() {
+        seedStories(30);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long[] exported = new long[1];
+        long statements = countStatements(() -> exported[0] = taskService.exportTasks(TaskFilter.all(), TaskExportFormat.NDJSON, out));
+
+        String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        assertEquals(90, exported[0]);
+        assertEquals(90, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":"));
+        assertEquals(1, statements);
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private void seedStories(int count) {
+        for (int i = 0; i < count; i++) {
+            Task story = new Task("Story " + seeded, "Story description", TaskType.STORY, manager);
+            story.setAssignee(developer);
+            story = taskRepository.save(story);
+
+            for (int j = 0; j < 2; j++) {
+                Task subtask = new Task("Subtask " + seeded + "." + j, null, TaskType.SUBTASK, developer);
+                subtask.setAssignee(developer);
+                subtask.setParentTask(story);
+                taskRepository.save(subtask);
+            }
+            seeded++;
+        }
+        entityManager.flush();
+    }
+
+    private long countStatements(Supplier<?> action) {
+        entityManager.clear();
+        statistics.clear();
+        action.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    enum ListFinder {
+        ALL_TASKS {
+            @Override
+            List<TaskResponse> list(TaskService taskService, User user) {
+                return taskService.getAllTasks();
+            }
+        },
+        BY_STATUS {
+            @Override
+            List<TaskResponse> list(TaskService taskService, User user) {
+                return taskService.getTasksByStatus(TaskStatus.DRAFT);
+            }
+        },
+        FOR_USER {
+            @Override
+            List<TaskResponse> list(TaskService taskService, User user) {
+                return taskService.getTasksForUser(user);
+            }
+        };
+
+        abstract List<TaskResponse> list(TaskService taskService, User user);
+    }
+}
@@ -3,31 +3,58 @@ package com.talentica.taskmanagement.service;
 import com.talentica.taskmanagement.dto.request.TaskCreateRequest;
 import com.talentica.taskmanagement.dto.request.TaskStatusTransitionRequest;
 import com.talentica.taskmanagement.dto.request.TaskUpdateRequest;
+import com.talentica.taskmanagement.dto.response.BulkOperationResponse;
+import com.talentica.taskmanagement.dto.response.CursorPageResponse;
+import com.talentica.taskmanagement.dto.response.TaskChangesResponse;
 import com.talentica.taskmanagement.dto.response.TaskResponse;
+import com.talentica.taskmanagement.dto.response.TaskSummaryResponse;
 import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.entity.TaskStatusChange;
+import com.talentica.taskmanagement.entity.TaskTombstone;
 import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskPageOrder;
 import com.talentica.taskmanagement.enums.TaskStatus;
 import com.talentica.taskmanagement.enums.TaskType;
 import com.talentica.taskmanagement.enums.UserRole;
+import com.talentica.taskmanagement.exception.ConcurrentUpdateException;
+import com.talentica.taskmanagement.exception.InvalidCursorException;
 import com.talentica.taskmanagement.exception.InvalidWorkflowTransitionException;
+import com.talentica.taskmanagement.exception.PreconditionFailedException;
 import com.talentica.taskmanagement.exception.ResourceNotFoundException;
 import com.talentica.taskmanagement.exception.UnauthorizedException;
+import com.talentica.taskmanagement.pagination.ChangeWatermark;
+import com.talentica.taskmanagement.pagination.TaskCursor;
+import com.talentica.taskmanagement.repository.TaskFilter;
 import com.talentica.taskmanagement.repository.TaskRepository;
+import com.talentica.taskmanagement.repository.TaskStatusChangeRepository;
+import com.talentica.taskmanagement.repository.TaskTombstoneRepository;
+import com.talentica.taskmanagement.search.TaskSearchEngine;
+import com.talentica.taskmanagement.security.TaskAuthorizationPolicy;
 import com.talentica.taskmanagement.service.impl.TaskServiceImpl;
+import com.talentica.taskmanagement.workload.WorkloadCounters;
+import com.talentica.taskmanagement.workload.WorkloadDelta;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,9 +63,27 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private TaskStatusChangeRepository statusChangeRepository;
+
     @Mock
     private UserService userService;
 
+    @Mock
+    private TaskSearchEngine taskSearchEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private WorkloadCounters workloadCounters;
+
+    @Spy
+    private TaskAuthorizationPolicy authorizationPolicy = new TaskAuthorizationPolicy();
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -63,6 +108,7 @@ class TaskServiceTest {
         testTask.setReporter(managerUser);
         testTask.setCreatedAt(LocalDateTime.now());
         testTask.setUpdatedAt(LocalDateTime.now());
+        testTask.setVersion(3L);
 
         createRequest = new TaskCreateRequest();
         createRequest.setTitle("New Task");
@@ -70,6 +116,26 @@ class TaskServiceTest {
         createRequest.setTaskType(TaskType.STORY);
     }
 
+    private Task createTask(Long id, TaskStatus status, User assignee) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setTaskType(TaskType.TASK);
+        task.setTaskStatus(status);
+        task.setReporter(managerUser);
+        task.setAssignee(assignee);
+        return task;
+    }
+
+    // Rows as TaskRepository.lockVersions returns them, at the tasks' loaded versions
+    private static List<Object[]> versionRows(Task... tasks) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Task task : tasks) {
+            rows.add(new Object[]{task.getId(), task.getVersion()});
+        }
+        return rows;
+    }
+
     private User createUser(Long id, String username, UserRole role) {
         User user = new User();
         user.setId(id);
@@ -91,6 +157,9 @@ class TaskServiceTest {
         assertNotNull(response);
         assertEquals(testTask.getTitle(), response.getTitle());
         verify(taskRepository).save(any(Task.class));
+        verify(statusChangeRepository).save(argThat((TaskStatusChange change) -> change.getTaskId().equals(1L)
+                && change.getFromStatus() == null && change.getToStatus() == TaskStatus.DRAFT
+                && managerUser.getId().equals(change.getActorId())));
     }
 
     @Test
@@ -105,6 +174,44 @@ class TaskServiceTest {
         verify(taskRepository, never()).save(any(Task.class));
     }
 
+    @Test
+    void bulkCreateTasks_SavesValidItemsAndReportsInvalidOnes() {
+        // Given
+        testTask.setAssignee(developerUser);
+        TaskCreateRequest subtask = new TaskCreateRequest();
+        subtask.setTitle("Subtask");
+        subtask.setTaskType(TaskType.SUBTASK);
+        subtask.setParentTaskId(1L);
+        TaskCreateRequest epic = new TaskCreateRequest();
+        epic.setTitle("Epic");
+        epic.setTaskType(TaskType.EPIC);
+        TaskCreateRequest orphan = new TaskCreateRequest();
+        orphan.setTitle("Orphan");
+        orphan.setTaskType(TaskType.SUBTASK);
+        orphan.setParentTaskId(99L);
+
+        when(taskRepository.findAllById(Arrays.asList(1L, 99L))).thenReturn(Arrays.asList(testTask));
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> {
+                task.setId(100L);
+                task.setCreatedAt(LocalDateTime.now());
+            });
+            return tasks;
+        });
+
+        // When
+        BulkOperationResponse response = taskService.bulkCreateTasks(Arrays.asList(subtask, epic, orphan), developerUser);
+
+        // Then
+        assertEquals(3, response.getTotal());
+        assertEquals(1, response.getSucceeded());
+        assertEquals(Long.valueOf(100L), response.getResults().get(0).getTaskId());
+        assertFalse(response.getResults().get(1).isSuccess());
+        assertEquals("Task not found with id: 99", response.getResults().get(2).getError());
+        verify(taskRepository, never()).findById(any());
+    }
+
     @Test
     void getTaskById_Success() {
         // Given
@@ -130,6 +237,40 @@ class TaskServiceTest {
         });
     }
 
+    @Test
+    void getTaskTree_NestsChildrenUnderTheirParents() {
+        // Given
+        Task story = createTask(4L, TaskStatus.TODO, developerUser);
+        story.setParentTask(testTask);
+        Task subtask = createTask(5L, TaskStatus.TODO, developerUser);
+        subtask.setParentTask(story);
+        when(taskRepository.findSubtreeIds(1L, 2)).thenReturn(Arrays.<Number>asList(1L, 4L, 5L));
+        when(taskRepository.findAllById(Arrays.asList(1L, 4L, 5L))).thenReturn(Arrays.asList(subtask, testTask, story));
+        when(taskRepository.countSubtasks(Arrays.asList(1L, 4L, 5L))).thenReturn(Arrays.asList(
+                new Object[]{1L, 1L}, new Object[]{4L, 1L}, new Object[]{5L, 2L}));
+
+        // When
+        TaskResponse tree = taskService.getTaskTree(1L, 2);
+
+        // Then
+        assertEquals(Long.valueOf(1L), tree.getId());
+        assertEquals(Integer.valueOf(1), tree.getSubtaskCount());
+        assertEquals(Long.valueOf(4L), tree.getSubtasks().get(0).getId());
+        TaskResponse leaf = tree.getSubtasks().get(0).getSubtasks().get(0);
+        assertEquals(Long.valueOf(5L), leaf.getId());
+        assertNull(leaf.getSubtasks());
+        assertEquals(Integer.valueOf(2), leaf.getSubtaskCount());
+    }
+
+    @Test
+    void getTaskTree_NotFound_ThrowsException() {
+        // Given
+        when(taskRepository.findSubtreeIds(9L, 2)).thenReturn(Collections.emptyList());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskTree(9L, 2));
+    }
+
     @Test
     void updateTask_Success() {
         // Given
@@ -138,14 +279,15 @@ class TaskServiceTest {
         updateRequest.setDescription("Updated Description");
 
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(testTask);
 
         // When
         TaskResponse response = taskService.updateTask(1L, updateRequest, managerUser);
 
         // Then
         assertNotNull(response);
-        verify(taskRepository).save(any(Task.class));
+        verify(taskRepository).saveAndFlush(any(Task.class));
+        verify(taskRepository, times(1)).findById(1L);
     }
 
     @Test
@@ -172,14 +314,91 @@ class TaskServiceTest {
 
         testTask.setAssignee(developerUser);
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        when(taskRepository.updateStatus(eq(1L), eq(TaskStatus.TODO), eq(3L), any())).thenReturn(1);
 
         // When
         TaskResponse response = taskService.transitionTaskStatus(1L, transitionRequest, developerUser);
 
         // Then
         assertNotNull(response);
-        verify(taskRepository).save(any(Task.class));
+        assertEquals(TaskStatus.TODO, response.getTaskStatus());
+        assertEquals(4L, response.getVersion());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskRepository, times(1)).findById(1L);
+        verify(workloadCounters).apply(argThat((WorkloadDelta delta) ->
+                delta.getChanges().get(3L).get(TaskStatus.DRAFT) == -1L
+                        && delta.getChanges().get(3L).get(TaskStatus.TODO) == 1L));
+        verify(statusChangeRepository).save(argThat((TaskStatusChange change) -> change.getTaskId().equals(1L)
+                && change.getFromStatus() == TaskStatus.DRAFT && change.getToStatus() == TaskStatus.TODO
+                && developerUser.getId().equals(change.getActorId()) && change.getChangedAt() > 0));
+    }
+
+    @Test
+    void getTaskHistory_UnknownTaskWithoutHistory_ThrowsNotFound() {
+        when(statusChangeRepository.findByTask(eq(99L), eq(0L), eq(Long.MAX_VALUE))).thenReturn(Collections.emptyList());
+        when(taskRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskHistory(99L, null, null));
+    }
+
+    @Test
+    void getTaskHistory_DeletedTask_StillReturnsItsHistory() {
+        TaskStatusChange change = new TaskStatusChange(99L, TaskStatus.TODO, TaskStatus.IN_PROGRESS, 3L, 1700000000000L);
+        change.setId(5L);
+        when(statusChangeRepository.findByTask(eq(99L), eq(0L), eq(Long.MAX_VALUE))).thenReturn(Collections.singletonList(change));
+
+        assertEquals(TaskStatus.IN_PROGRESS, taskService.getTaskHistory(99L, null, null).get(0).getToStatus());
+        verify(taskRepository, never()).existsById(any());
+    }
+
+    @Test
+    void transitionTaskStatus_ConcurrentTransition_ThrowsConflict() {
+        // Given
+        TaskStatusTransitionRequest transitionRequest = new TaskStatusTransitionRequest();
+        transitionRequest.setTargetStatus(TaskStatus.TODO);
+
+        testTask.setAssignee(developerUser);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.updateStatus(eq(1L), eq(TaskStatus.TODO), eq(3L), any())).thenReturn(0);
+
+        // When & Then
+        assertThrows(ConcurrentUpdateException.class, () ->
+                taskService.transitionTaskStatus(1L, transitionRequest, developerUser));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        verify(workloadCounters, never()).apply(any());
+    }
+
+    @Test
+    void transitionTaskStatus_EditedAfterIfMatchCheck_ThrowsPreconditionFailed() {
+        // Given
+        TaskStatusTransitionRequest transitionRequest = new TaskStatusTransitionRequest();
+        transitionRequest.setTargetStatus(TaskStatus.TODO);
+
+        testTask.setAssignee(developerUser);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        // The If-Match version was current when loaded, but another request edited the task (same status)
+        // before the conditional UPDATE ran, so the version guard matches no row
+        when(taskRepository.updateStatus(eq(1L), eq(TaskStatus.TODO), eq(3L), any())).thenReturn(0);
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class, () ->
+                taskService.transitionTaskStatus(1L, transitionRequest, developerUser, 3L));
+        verify(taskRepository, never()).bulkUpdateStatus(any(), any(), any(), any());
+        verify(statusChangeRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void updateTask_StaleIfMatchVersion_ThrowsPreconditionFailed() {
+        // Given
+        TaskUpdateRequest updateRequest = new TaskUpdateRequest();
+        updateRequest.setTitle("Updated Title");
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class, () ->
+                taskService.updateTask(1L, updateRequest, managerUser, 2L));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
     }
 
     @Test
@@ -278,24 +497,174 @@ class TaskServiceTest {
         assertEquals(testTask.getTitle(), responses.get(0).getTitle());
     }
 
+    @Test
+    void getTaskPage_ReturnsCursorWhenMoreRowsExist() {
+        // Given
+        Task secondTask = new Task();
+        secondTask.setId(2L);
+        secondTask.setTitle("Second Task");
+        secondTask.setTaskType(TaskType.TASK);
+        secondTask.setReporter(managerUser);
+        when(taskRepository.findPage(any(TaskFilter.class), isNull(), eq(TaskPageOrder.ID), eq(2)))
+                .thenReturn(Arrays.asList(testTask, secondTask));
+
+        // When
+        CursorPageResponse<TaskResponse> page = taskService.getTaskPage(TaskFilter.all(), null, 1, TaskPageOrder.ID);
+
+        // Then
+        assertEquals(1, page.getItems().size());
+        assertTrue(page.isHasMore());
+        assertEquals(testTask.getId(), TaskCursor.decode(page.getNextCursor(), TaskPageOrder.ID).getId());
+    }
+
+    @Test
+    void getTaskPage_CursorFromOtherOrdering_ThrowsException() {
+        // Given
+        String idCursor = TaskCursor.after(testTask, TaskPageOrder.ID).encode();
+
+        // When & Then
+        assertThrows(InvalidCursorException.class, () -> {
+            taskService.getTaskPage(TaskFilter.all(), idCursor, 10, TaskPageOrder.UPDATED_AT);
+        });
+    }
+
+    @Test
+    void getTaskSummaries_ByStatus_UsesProjectionQuery() {
+        // Given
+        TaskSummaryResponse summary = new TaskSummaryResponse();
+        summary.setId(1L);
+        when(taskRepository.findSummariesByStatus(TaskStatus.TODO)).thenReturn(Arrays.asList(summary));
+
+        // When
+        List<TaskSummaryResponse> summaries = taskService.getTaskSummaries(TaskStatus.TODO, null);
+
+        // Then
+        assertEquals(1, summaries.size());
+        verify(taskRepository, never()).findAll();
+    }
+
     @Test
     void assignTask_Success() {
         // Given
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
         when(userService.findUserEntityById(3L)).thenReturn(developerUser);
-        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(testTask);
 
         // When
         TaskResponse response = taskService.assignTask(1L, 3L, managerUser);
 
         // Then
         assertNotNull(response);
-        verify(taskRepository).save(any(Task.class));
+        verify(taskRepository).saveAndFlush(any(Task.class));
+    }
+
+    @Test
+    void bulkTransitionTasks_OneUpdatePerSourceStatusAndPerItemResults() {
+        // Given
+        testTask.setAssignee(developerUser);
+        Task inProgress = createTask(2L, TaskStatus.IN_PROGRESS, developerUser);
+        Task notMine = createTask(3L, TaskStatus.DRAFT, managerUser);
+        when(taskRepository.findAllById(any())).thenReturn(Arrays.asList(testTask, inProgress, notMine));
+        when(taskRepository.lockVersions(any())).thenReturn(versionRows(testTask, inProgress));
+        when(taskRepository.bulkUpdateStatus(any(), eq(TaskStatus.DRAFT), eq(TaskStatus.TODO), any())).thenReturn(1);
+        when(taskRepository.bulkUpdateStatus(any(), eq(TaskStatus.IN_PROGRESS), eq(TaskStatus.TODO), any())).thenReturn(1);
+
+        // When
+        BulkOperationResponse response = taskService.bulkTransitionTasks(
+                Arrays.asList(1L, 2L, 3L, 99L), TaskStatus.TODO, developerUser);
+
+        // Then
+        assertEquals(2, response.getSucceeded());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertTrue(response.getResults().get(1).isSuccess());
+        assertEquals("User is not authorized to transition this task", response.getResults().get(2).getError());
+        assertEquals("Task not found with id: 99", response.getResults().get(3).getError());
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void bulkTransitionTasks_TaskChangedSinceLoading_IsReportedNotApplied() {
+        // Given
+        testTask.setAssignee(developerUser);
+        Task changed = createTask(2L, TaskStatus.DRAFT, developerUser);
+        changed.setVersion(1L);
+        when(taskRepository.findAllById(any())).thenReturn(Arrays.asList(testTask, changed));
+        // Another request moved task 2 on after it was loaded; its locked row is a version ahead
+        when(taskRepository.lockVersions(any())).thenReturn(Arrays.asList(
+                new Object[]{1L, 3L}, new Object[]{2L, 2L}));
+        when(taskRepository.bulkUpdateStatus(eq(Collections.singleton(1L)), eq(TaskStatus.DRAFT), eq(TaskStatus.TODO), any()))
+                .thenReturn(1);
+
+        // When
+        BulkOperationResponse response = taskService.bulkTransitionTasks(
+                Arrays.asList(1L, 2L), TaskStatus.TODO, developerUser);
+
+        // Then
+        assertEquals(1, response.getSucceeded());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertEquals("Task was modified concurrently", response.getResults().get(1).getError());
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void bulkTransitionTasks_InvalidWorkflowStepIsReportedNotApplied() {
+        // Given
+        when(taskRepository.findAllById(any())).thenReturn(Arrays.asList(testTask));
+
+        // When
+        BulkOperationResponse response = taskService.bulkTransitionTasks(
+                Arrays.asList(1L), TaskStatus.DONE, managerUser);
+
+        // Then
+        assertEquals(0, response.getSucceeded());
+        assertEquals("Cannot transition task from Draft to Done", response.getResults().get(0).getError());
+        verify(taskRepository, never()).bulkComplete(any(), any(), any());
+    }
+
+    @Test
+    void bulkAssignTasks_SkipsTasksTheUserCannotAssign() {
+        // Given
+        Task ownTask = createTask(2L, TaskStatus.TODO, null);
+        ownTask.setReporter(developerUser);
+        when(userService.findUserEntityById(3L)).thenReturn(developerUser);
+        when(taskRepository.findAllById(any())).thenReturn(Arrays.asList(testTask, ownTask));
+        when(taskRepository.lockVersions(any())).thenReturn(versionRows(ownTask));
+        when(taskRepository.bulkAssign(any(), eq(developerUser), any())).thenReturn(1);
+
+        // When
+        BulkOperationResponse response = taskService.bulkAssignTasks(Arrays.asList(1L, 2L), 3L, developerUser);
+
+        // Then
+        assertEquals(1, response.getSucceeded());
+        assertEquals("User is not authorized to assign this task", response.getResults().get(0).getError());
+        assertEquals(Long.valueOf(2L), response.getResults().get(1).getTaskId());
+        verify(taskRepository).bulkAssign(eq(Collections.singleton(2L)), eq(developerUser), any());
+    }
+
+    @Test
+    void bulkAssignTasks_DeletedSinceLoading_IsReportedNotApplied() {
+        // Given
+        Task ownTask = createTask(2L, TaskStatus.TODO, null);
+        ownTask.setReporter(developerUser);
+        when(userService.findUserEntityById(3L)).thenReturn(developerUser);
+        when(taskRepository.findAllById(any())).thenReturn(Collections.singletonList(ownTask));
+        when(taskRepository.lockVersions(any())).thenReturn(Collections.emptyList());
+
+        // When
+        BulkOperationResponse response = taskService.bulkAssignTasks(Collections.singletonList(2L), 3L, developerUser);
+
+        // Then
+        assertEquals(0, response.getSucceeded());
+        assertEquals("Task was modified concurrently", response.getResults().get(0).getError());
+        verify(taskRepository, never()).bulkAssign(any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
     void deleteTask_Success() {
         // Given
+        testTask.setSubtasks(Arrays.asList(createTask(5L, TaskStatus.TODO, developerUser)));
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
 
         // When
@@ -303,6 +672,43 @@ class TaskServiceTest {
 
         // Then
         verify(taskRepository).delete(testTask);
+        verify(tombstoneRepository).saveAll(argThat((List<TaskTombstone> tombstones) ->
+                tombstones.stream().map(TaskTombstone::getTaskId).collect(Collectors.toList()).equals(Arrays.asList(1L, 5L))));
+        verify(statusChangeRepository).saveAll(argThat((List<TaskStatusChange> deletions) -> deletions.size() == 2
+                && deletions.stream().allMatch(change -> change.getToStatus() == null)
+                && deletions.get(1).getFromStatus() == TaskStatus.TODO));
+        verify(eventPublisher, times(2)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void getTaskChanges_ReturnsChangesAndDeletesAndAdvancesWatermark() {
+        // Given
+        Task first = createTask(7L, TaskStatus.TODO, developerUser);
+        first.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        Task second = createTask(3L, TaskStatus.DONE, developerUser);
+        second.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 11, 0));
+        TaskTombstone tombstone = new TaskTombstone(9L, LocalDateTime.of(2024, 1, 1, 10, 30));
+        tombstone.setId(42L);
+
+        when(taskRepository.findChangedSince(any(), eq(0L), any(), any())).thenReturn(Arrays.asList(first, second));
+        when(tombstoneRepository.findDeletedAfter(eq(0L), any(), any())).thenReturn(Arrays.asList(tombstone));
+
+        // When
+        TaskChangesResponse response = taskService.getTaskChanges(null, 10);
+
+        // Then
+        assertEquals(Arrays.asList(7L, 3L), response.getChanged().stream().map(TaskResponse::getId).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(9L), response.getDeletedIds());
+        assertFalse(response.isHasMore());
+        ChangeWatermark watermark = ChangeWatermark.decode(response.getWatermark());
+        assertEquals(second.getUpdatedAt(), watermark.getUpdatedAt());
+        assertEquals(3L, watermark.getTaskId());
+        assertEquals(42L, watermark.getTombstoneId());
+    }
+
+    @Test
+    void getTaskChanges_MalformedWatermark_ThrowsException() {
+        assertThrows(InvalidCursorException.class, () -> taskService.getTaskChanges("not-a-watermark", 10));
     }
 
     @Test
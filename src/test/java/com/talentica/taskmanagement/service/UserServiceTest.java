@@ -7,6 +7,8 @@ import com.talentica.taskmanagement.enums.UserRole;
 import com.talentica.taskmanagement.exception.DuplicateResourceException;
 import com.talentica.taskmanagement.exception.ResourceNotFoundException;
 import com.talentica.taskmanagement.repository.UserRepository;
+import com.talentica.taskmanagement.search.UserSearchEngine;
+import com.talentica.taskmanagement.security.PrincipalCache;
 import com.talentica.taskmanagement.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
@@ -35,6 +38,15 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserSearchEngine userSearchEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -180,6 +192,7 @@ class UserServiceTest {
 
         // Then
         verify(userRepository).save(any(User.class));
+        verify(principalCache).invalidate("testuser");
     }
 
     @Test
@@ -219,4 +232,23 @@ class UserServiceTest {
         // Then
         assertFalse(exists);
     }
-}
\ No newline at end of file
+
+    @Test
+    void searchUsers_KeepsEngineOrderAndCapsLimit() {
+        // Given
+        User otherUser = new User();
+        otherUser.setId(2L);
+        otherUser.setUsername("tester");
+        otherUser.setIsActive(true);
+        when(userSearchEngine.search("test", 50)).thenReturn(Arrays.asList(2L, 1L));
+        when(userRepository.findAllById(Arrays.asList(2L, 1L))).thenReturn(Arrays.asList(testUser, otherUser));
+
+        // When
+        List<UserResponse> result = userService.searchUsers("test", 500);
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals("tester", result.get(0).getUsername());
+        assertEquals("testuser", result.get(1).getUsername());
+    }
+}
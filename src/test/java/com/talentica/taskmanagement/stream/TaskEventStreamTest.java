@@ -0,0 +1,165 @@
+package com.talentica.taskmanagement.stream;
+
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskChangeType;
+import com.talentica.taskmanagement.enums.TaskStatus;
+import com.talentica.taskmanagement.enums.TaskType;
+import com.talentica.taskmanagement.event.TaskChangedEvent;
+import com.talentica.taskmanagement.repository.TaskFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskEventStreamTest {
+
+    private TaskEventStream stream;
+
+    @BeforeEach
+    void setUp() {
+        stream = new TaskEventStream();
+        ReflectionTestUtils.setField(stream, "replaySize", 10);
+        ReflectionTestUtils.setField(stream, "queueSize", 10);
+        ReflectionTestUtils.setField(stream, "dispatcher", (Executor) Runnable::run);
+    }
+
+    @Test
+    void publish_DeliversOnlyMatchingEvents() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.subscribe(TaskFilter.byAssignee(7L), null, emitter);
+
+        stream.publish(event(1L, 7L));
+        stream.publish(event(2L, 8L));
+
+        assertEquals(1, emitter.payloads.size());
+        assertEquals(Long.valueOf(1L), emitter.payloads.get(0).getTaskId());
+        assertTrue(emitter.events.get(0).contains("event:" + TaskStreamSubscription.CHANGE_EVENT));
+    }
+
+    @Test
+    void publish_TaskLeavingFilteredStatus_IsDelivered() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.subscribe(TaskFilter.byStatus(TaskStatus.TODO), null, emitter);
+        Task task = task(1L, 7L);
+        task.setTaskStatus(TaskStatus.IN_PROGRESS);
+
+        stream.publish(TaskChangedEvent.transitioned(task, TaskStatus.TODO));
+
+        assertEquals(1, emitter.payloads.size());
+        assertEquals(TaskStatus.IN_PROGRESS, emitter.payloads.get(0).getTaskStatus());
+        assertEquals(TaskStatus.TODO, emitter.payloads.get(0).getPreviousStatus());
+    }
+
+    @Test
+    void publish_TaskReassignedAwayFromFilteredAssignee_IsDelivered() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.subscribe(TaskFilter.byAssignee(7L), null, emitter);
+        User previousAssignee = new User();
+        previousAssignee.setId(7L);
+
+        stream.publish(TaskChangedEvent.of(TaskChangeType.ASSIGNED, task(1L, 8L), previousAssignee));
+
+        assertEquals(1, emitter.payloads.size());
+        assertEquals(Long.valueOf(8L), emitter.payloads.get(0).getAssigneeId());
+        assertEquals(Long.valueOf(7L), emitter.payloads.get(0).getPreviousAssigneeId());
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ReplaysMissedEvents() {
+        RecordingEmitter first = new RecordingEmitter();
+        stream.subscribe(TaskFilter.all(), null, first);
+        stream.publish(event(1L, 7L));
+        stream.publish(event(2L, 7L));
+        stream.publish(event(3L, 7L));
+
+        RecordingEmitter resumed = new RecordingEmitter();
+        stream.subscribe(TaskFilter.all(), eventId(first.events.get(0)), resumed);
+
+        assertEquals(2, resumed.payloads.size());
+        assertEquals(Long.valueOf(2L), resumed.payloads.get(0).getTaskId());
+        assertEquals(Long.valueOf(3L), resumed.payloads.get(1).getTaskId());
+    }
+
+    @Test
+    void subscribe_WithUnknownLastEventId_SendsResync() {
+        stream.publish(event(1L, 7L));
+
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.subscribe(TaskFilter.all(), "previousboot-42", emitter);
+
+        assertEquals(1, emitter.events.size());
+        assertTrue(emitter.events.get(0).contains("event:" + TaskStreamSubscription.RESYNC_EVENT));
+        assertTrue(emitter.payloads.isEmpty());
+    }
+
+    @Test
+    void publish_SlowSubscriberOverflow_DropsBacklogAndSendsResync() {
+        List<Runnable> pendingDrains = new ArrayList<>();
+        ReflectionTestUtils.setField(stream, "queueSize", 2);
+        ReflectionTestUtils.setField(stream, "dispatcher", (Executor) pendingDrains::add);
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.subscribe(TaskFilter.all(), null, emitter);
+
+        stream.publish(event(1L, 7L));
+        stream.publish(event(2L, 7L));
+        stream.publish(event(3L, 7L));
+        stream.publish(event(4L, 7L));
+        pendingDrains.forEach(Runnable::run);
+
+        assertTrue(emitter.events.get(0).contains("event:" + TaskStreamSubscription.RESYNC_EVENT));
+        // After the resync only events published since the overflow are delivered
+        assertEquals(1, emitter.payloads.size());
+        assertEquals(Long.valueOf(4L), emitter.payloads.get(0).getTaskId());
+    }
+
+    private static TaskChangedEvent event(Long taskId, Long assigneeId) {
+        return TaskChangedEvent.of(TaskChangeType.UPDATED, task(taskId, assigneeId));
+    }
+
+    private static Task task(Long taskId, Long assigneeId) {
+        User assignee = new User();
+        assignee.setId(assigneeId);
+        Task task = new Task();
+        task.setId(taskId);
+        task.setTitle("Task " + taskId);
+        task.setTaskType(TaskType.TASK);
+        task.setTaskStatus(TaskStatus.TODO);
+        task.setAssignee(assignee);
+        return task;
+    }
+
+    private static String eventId(String eventText) {
+        for (String line : eventText.split("\n")) {
+            if (line.startsWith("id:")) {
+                return line.substring(3);
+            }
+        }
+        throw new IllegalArgumentException("No id in " + eventText);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+        private final List<TaskChangedEvent> payloads = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof TaskChangedEvent) {
+                    payloads.add((TaskChangedEvent) part.getData());
+                } else {
+                    text.append(part.getData());
+                }
+            }
+            events.add(text.toString());
+        }
+    }
+}
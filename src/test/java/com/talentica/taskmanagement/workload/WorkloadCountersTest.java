@@ -0,0 +1,78 @@
+package com.talentica.taskmanagement.workload;
+
+import com.talentica.taskmanagement.entity.AssigneeWorkload;
+import com.talentica.taskmanagement.entity.Task;
+import com.talentica.taskmanagement.entity.User;
+import com.talentica.taskmanagement.enums.TaskStatus;
+import com.talentica.taskmanagement.repository.AssigneeWorkloadRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WorkloadCountersTest {
+
+    @Mock
+    private AssigneeWorkloadRepository workloadRepository;
+
+    @InjectMocks
+    private WorkloadCounters workloadCounters;
+
+    @Test
+    void apply_UpsertsEachNonZeroChange() {
+        User developer = user(3L);
+
+        workloadCounters.apply(new WorkloadDelta().transitioned(developer, TaskStatus.TODO, TaskStatus.IN_PROGRESS));
+
+        verify(workloadRepository).add(3L, TaskStatus.TODO, -1L);
+        verify(workloadRepository).add(3L, TaskStatus.IN_PROGRESS, 1L);
+        verifyNoMoreInteractions(workloadRepository);
+    }
+
+    @Test
+    void apply_ChangesThatCancelOut_WriteNothing() {
+        User developer = user(3L);
+
+        workloadCounters.apply(new WorkloadDelta().reassigned(TaskStatus.TODO, developer, developer));
+
+        verify(workloadRepository, never()).add(any(), any(), anyLong());
+    }
+
+    @Test
+    void getAll_LoadsOnceThenReloadsOnlyTouchedAssignees() {
+        when(workloadRepository.findAll()).thenReturn(Arrays.asList(
+                new AssigneeWorkload(3L, TaskStatus.TODO, 2), new AssigneeWorkload(4L, TaskStatus.QA, 1)));
+        assertEquals(Long.valueOf(2L), workloadCounters.get(3L).get(TaskStatus.TODO));
+        assertEquals(Long.valueOf(1L), workloadCounters.get(4L).get(TaskStatus.QA));
+        verify(workloadRepository, times(1)).findAll();
+
+        when(workloadRepository.findByAssigneeIdIn(anyCollection())).thenReturn(Collections.singletonList(
+                new AssigneeWorkload(3L, TaskStatus.TODO, 3)));
+        Task task = new Task();
+        task.setAssignee(user(3L));
+        task.setTaskStatus(TaskStatus.TODO);
+        workloadCounters.apply(new WorkloadDelta().added(task));
+
+        assertEquals(Long.valueOf(3L), workloadCounters.get(3L).get(TaskStatus.TODO));
+        assertEquals(Long.valueOf(1L), workloadCounters.get(4L).get(TaskStatus.QA));
+        verify(workloadRepository).findByAssigneeIdIn(Collections.singleton(3L));
+        verify(workloadRepository, times(1)).findAll();
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+}